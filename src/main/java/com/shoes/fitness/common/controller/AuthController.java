@@ -4,6 +4,7 @@ import com.shoes.fitness.common.dto.*;
 import com.shoes.fitness.common.security.CurrentUser;
 import com.shoes.fitness.common.security.UserPrincipal;
 import com.shoes.fitness.common.service.FitnessAuthService;
+import com.shoes.fitness.common.util.ClientIpResolver;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -24,6 +25,7 @@ import java.util.Map;
 public class AuthController {
 
     private final FitnessAuthService fitnessAuthService;
+    private final ClientIpResolver clientIpResolver;
 
     /**
      * 피트니스 파트너 회원가입 (JSON)
@@ -34,7 +36,7 @@ public class AuthController {
             HttpServletRequest httpRequest) {
 
         try {
-            String clientIp = getClientIp(httpRequest);
+            String clientIp = clientIpResolver.resolve(httpRequest);
             log.info("피트니스 파트너 회원가입 시도: {} (IP: {})", request.getFitnessLoginId(), clientIp);
 
             FitnessLoginResponse response = fitnessAuthService.register(request, clientIp);
@@ -72,7 +74,7 @@ public class AuthController {
             HttpServletRequest httpRequest) {
 
         try {
-            String clientIp = getClientIp(httpRequest);
+            String clientIp = clientIpResolver.resolve(httpRequest);
             log.info("피트니스 파트너 회원가입 시도 (multipart): {} (IP: {})", fitnessLoginId, clientIp);
 
             // Request 객체 생성
@@ -115,7 +117,7 @@ public class AuthController {
             HttpServletRequest httpRequest) {
 
         try {
-            String clientIp = getClientIp(httpRequest);
+            String clientIp = clientIpResolver.resolve(httpRequest);
             String userAgent = httpRequest.getHeader("User-Agent");
             log.info("피트니스 파트너 로그인 시도: {} (IP: {})", request.getFitnessLoginId(), clientIp);
 
@@ -283,18 +285,4 @@ public class AuthController {
                     .body(ApiResponse.error("중복 확인 중 오류가 발생했습니다."));
         }
     }
-
-    private String getClientIp(HttpServletRequest request) {
-        String xForwardedFor = request.getHeader("X-Forwarded-For");
-        if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
-            return xForwardedFor.split(",")[0].trim();
-        }
-
-        String xRealIp = request.getHeader("X-Real-IP");
-        if (xRealIp != null && !xRealIp.isEmpty()) {
-            return xRealIp;
-        }
-
-        return request.getRemoteAddr();
-    }
 }
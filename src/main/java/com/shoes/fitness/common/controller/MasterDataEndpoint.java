@@ -0,0 +1,53 @@
+package com.shoes.fitness.common.controller;
+
+import com.shoes.fitness.common.service.MasterDataRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 마스터 데이터 즉시 다시 로드 (시설/자격요건 마스터 테이블 수정 후 반영용)
+ * 관리 포트(127.0.0.1)의 POST /actuator/masterdata 로만 호출 가능하며, 최소 간격 안의 재요청은 무시
+ * (주기 갱신은 MasterDataRegistry 스케줄러가 계속 수행)
+ */
+@Slf4j
+@Component
+@Endpoint(id = "masterdata")
+public class MasterDataEndpoint {
+
+    private final MasterDataRegistry masterDataRegistry;
+    private final long minIntervalMillis;
+
+    private final AtomicLong lastRefreshAt = new AtomicLong();
+
+    public MasterDataEndpoint(MasterDataRegistry masterDataRegistry,
+                              @Value("${master-data.manual-refresh-min-interval-ms:10000}") long minIntervalMillis) {
+        this.masterDataRegistry = masterDataRegistry;
+        this.minIntervalMillis = minIntervalMillis;
+    }
+
+    @WriteOperation
+    public Map<String, Object> refresh() {
+        long now = System.currentTimeMillis();
+        long last = lastRefreshAt.get();
+        Map<String, Object> result = new LinkedHashMap<>();
+
+        if (now - last < minIntervalMillis || !lastRefreshAt.compareAndSet(last, now)) {
+            long retryAfter = Math.max(0, minIntervalMillis - (now - lastRefreshAt.get()));
+            log.warn("마스터 데이터 수동 갱신 요청 무시 (최소 간격 미경과). retryAfterMs: {}", retryAfter);
+            result.put("refreshed", false);
+            result.put("retryAfterMs", retryAfter);
+            return result;
+        }
+
+        masterDataRegistry.refresh();
+        result.put("refreshed", true);
+        return result;
+    }
+}
@@ -0,0 +1,22 @@
+package com.shoes.fitness.common.dto;
+
+import com.shoes.fitness.entity.FitnessFacilityMaster;
+
+/**
+ * 시설 마스터 불변 값 (MasterDataRegistry 가 보관/반환, 여러 스레드가 공유하므로 JPA 엔티티 대신 사용)
+ */
+public record FacilityMaster(String facilityCode,
+                             String facilityName,
+                             String iconUrl,
+                             Integer sortOrder,
+                             boolean active) {
+
+    public static FacilityMaster from(FitnessFacilityMaster entity) {
+        return new FacilityMaster(
+                entity.getFacilityCode(),
+                entity.getFacilityName(),
+                entity.getIconUrl(),
+                entity.getSortOrder(),
+                Boolean.TRUE.equals(entity.getIsActive()));
+    }
+}
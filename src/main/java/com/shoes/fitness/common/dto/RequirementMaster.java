@@ -0,0 +1,29 @@
+package com.shoes.fitness.common.dto;
+
+import com.shoes.fitness.entity.FitnessRequirementMaster;
+
+import java.time.LocalDateTime;
+
+/**
+ * 자격요건 마스터 불변 값 (MasterDataRegistry 가 보관/반환, 여러 스레드가 공유하므로 JPA 엔티티 대신 사용)
+ * bitIndex 가 null 이면 requirement_mask 비트가 배정되지 않은 코드
+ */
+public record RequirementMaster(String requirementCode,
+                                String requirementName,
+                                String category,
+                                Integer sortOrder,
+                                Integer bitIndex,
+                                boolean active,
+                                LocalDateTime createdAt) {
+
+    public static RequirementMaster from(FitnessRequirementMaster entity) {
+        return new RequirementMaster(
+                entity.getRequirementCode(),
+                entity.getRequirementName(),
+                entity.getCategory(),
+                entity.getSortOrder(),
+                entity.getBitIndex(),
+                Boolean.TRUE.equals(entity.getIsActive()),
+                entity.getCreatedAt());
+    }
+}
@@ -0,0 +1,24 @@
+package com.shoes.fitness.common.paging;
+
+/**
+ * 목록 조회 시 전체 건수 조회 방식
+ */
+public enum CountMode {
+    /** COUNT 쿼리로 정확한 건수 조회 (같은 필터의 다음 페이지는 짧은 시간 동안 서버에 보관한 건수 재사용) */
+    EXACT,
+    /** 서버에 보관한 건수를 더 오래 재사용 (보관값을 쓰면 응답에 추정치로 표시) */
+    ESTIMATED,
+    /** 건수 조회 안 함 (hasNext 로만 다음 페이지 판단) */
+    NONE;
+
+    public static CountMode from(String value) {
+        if (value == null || value.isEmpty()) {
+            return EXACT;
+        }
+        try {
+            return CountMode.valueOf(value.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("유효하지 않은 countMode 입니다: " + value);
+        }
+    }
+}
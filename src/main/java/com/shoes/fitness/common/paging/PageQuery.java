@@ -0,0 +1,68 @@
+package com.shoes.fitness.common.paging;
+
+import lombok.*;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 목록 조회 페이징 요청
+ * 전체 건수는 서버에서만 계산/보관하며 (PagingExecutor) 클라이언트가 보낸 건수는 사용하지 않음
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PageQuery {
+    private int page;
+    private int size;
+    @Builder.Default
+    private CountMode countMode = CountMode.EXACT;
+
+    public static PageQuery of(int page, int size) {
+        return PageQuery.builder()
+                .page(page)
+                .size(size)
+                .build();
+    }
+
+    public static PageQuery of(int page, int size, String countMode) {
+        return PageQuery.builder()
+                .page(page)
+                .size(size)
+                .countMode(CountMode.from(countMode))
+                .build();
+    }
+
+    public Pageable toPageable() {
+        return PageRequest.of(page, size);
+    }
+
+    /**
+     * 목록 구분(scope)과 필터 조건으로 filterKey 생성 (서버 건수 캐시 키, 응답에 포함되어 클라이언트의 필터 변경 판단에도 사용)
+     * 값마다 길이를 앞에 붙여 SHA-256 으로 계산 (구분자가 들어간 값끼리 섞이거나 32비트 해시가 충돌해 다른 필터의 건수를 쓰는 것 방지)
+     */
+    public static String filterKey(String scope, Object... filters) {
+        StringBuilder source = new StringBuilder();
+        append(source, scope);
+        for (Object filter : filters) {
+            // enum 의 hashCode 는 JVM 마다 달라지므로 문자열 기준으로 계산
+            append(source, String.valueOf(filter));
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(source.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private static void append(StringBuilder source, String value) {
+        source.append(value.length()).append(':').append(value);
+    }
+}
@@ -0,0 +1,19 @@
+package com.shoes.fitness.common.paging;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PageResult<T> {
+    private List<T> content;
+    private Long totalCount;
+    // totalCount 가 서버에 보관된 이전 건수이면 true (ESTIMATED)
+    private boolean totalCountEstimated;
+    private Integer totalPages;
+    private boolean hasNext;
+    private String filterKey;
+}
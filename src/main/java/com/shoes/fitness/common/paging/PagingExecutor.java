@@ -0,0 +1,119 @@
+package com.shoes.fitness.common.paging;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * 목록 조회 공통 페이징 처리
+ * 목록은 Slice(size + 1 조회)로 가져오고, 전체 건수는 CountMode 와 요청 상태에 따라 필요한 경우에만 조회
+ *
+ * 전체 건수는 filterKey 별로 서버 메모리에 보관 (LRU 최대 maxSize 건)
+ * - EXACT: 첫 페이지는 항상 COUNT, 다음 페이지는 exactTtl 이내에 계산한 건수 재사용
+ * - ESTIMATED: estimatedTtl 이내에 계산한 건수 재사용 (재사용 시 totalCountEstimated = true)
+ */
+@Slf4j
+@Component
+public class PagingExecutor {
+
+    private final long exactTtlMillis;
+    private final long estimatedTtlMillis;
+    private final int maxSize;
+    private final LinkedHashMap<String, CachedCount> counts;
+
+    public PagingExecutor(@Value("${paging.count-cache.exact-ttl-ms:30000}") long exactTtlMillis,
+                          @Value("${paging.count-cache.estimated-ttl-ms:600000}") long estimatedTtlMillis,
+                          @Value("${paging.count-cache.max-size:10000}") int maxSize) {
+        this.exactTtlMillis = exactTtlMillis;
+        this.estimatedTtlMillis = estimatedTtlMillis;
+        this.maxSize = maxSize;
+        this.counts = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedCount> eldest) {
+                return size() > PagingExecutor.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * @param query       페이징 요청
+     * @param filterKey   목록 구분 + 현재 필터 조건의 키 (PageQuery.filterKey)
+     * @param sliceQuery  목록 조회
+     * @param countQuery  정확한 건수 조회
+     */
+    public <T> PageResult<T> execute(PageQuery query, String filterKey,
+                                     Function<Pageable, Slice<T>> sliceQuery, LongSupplier countQuery) {
+        Pageable pageable = query.toPageable();
+        Slice<T> slice = sliceQuery.apply(pageable);
+
+        TotalCount totalCount = resolveTotalCount(query, filterKey, pageable, slice, countQuery);
+        Long total = totalCount != null ? totalCount.value : null;
+
+        return PageResult.<T>builder()
+                .content(slice.getContent())
+                .totalCount(total)
+                .totalCountEstimated(totalCount != null && totalCount.estimated)
+                .totalPages(total != null ? totalPages(total, query.getSize()) : null)
+                .hasNext(slice.hasNext())
+                .filterKey(filterKey)
+                .build();
+    }
+
+    private <T> TotalCount resolveTotalCount(PageQuery query, String filterKey,
+                                             Pageable pageable, Slice<T> slice, LongSupplier countQuery) {
+        if (query.getCountMode() == CountMode.NONE) {
+            return null;
+        }
+
+        // 마지막 페이지면 조회 결과로 전체 건수 계산 가능
+        if (!slice.hasNext() && (slice.getNumberOfElements() > 0 || pageable.getPageNumber() == 0)) {
+            long total = pageable.getOffset() + slice.getNumberOfElements();
+            put(filterKey, total);
+            return new TotalCount(total, false);
+        }
+
+        long now = System.currentTimeMillis();
+        if (query.getCountMode() == CountMode.ESTIMATED) {
+            Long cached = getCached(filterKey, now - estimatedTtlMillis);
+            if (cached != null) {
+                return new TotalCount(cached, true);
+            }
+        } else if (pageable.getPageNumber() > 0) {
+            // 같은 필터의 다음 페이지 요청이면 직전에 계산한 건수 재사용
+            Long cached = getCached(filterKey, now - exactTtlMillis);
+            if (cached != null) {
+                return new TotalCount(cached, false);
+            }
+        }
+
+        long total = countQuery.getAsLong();
+        put(filterKey, total);
+        return new TotalCount(total, false);
+    }
+
+    private synchronized Long getCached(String filterKey, long computedAfter) {
+        CachedCount cached = counts.get(filterKey);
+        return cached != null && cached.computedAt >= computedAfter ? cached.value : null;
+    }
+
+    private synchronized void put(String filterKey, long value) {
+        counts.put(filterKey, new CachedCount(value, System.currentTimeMillis()));
+    }
+
+    private int totalPages(long totalCount, int size) {
+        return size == 0 ? 1 : (int) Math.ceil((double) totalCount / (double) size);
+    }
+
+    private record CachedCount(long value, long computedAt) {
+    }
+
+    private record TotalCount(long value, boolean estimated) {
+    }
+}
@@ -0,0 +1,26 @@
+package com.shoes.fitness.common.repository;
+
+import com.shoes.fitness.entity.SchedulerLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SchedulerLeaseRepository extends JpaRepository<SchedulerLease, String> {
+
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO scheduler_lease (lease_name, owner, lease_until) " +
+            "VALUES (:leaseName, NULL, '1970-01-01 00:00:00')", nativeQuery = true)
+    void insertIfAbsent(@Param("leaseName") String leaseName);
+
+    /**
+     * 만료된 임대(또는 자신이 가진 임대)만 가져옴. 시각은 DB 기준이라 인스턴스 간 시계 차이 영향 없음
+     * @return 1 이면 획득
+     */
+    @Modifying
+    @Query(value = "UPDATE scheduler_lease SET owner = :owner, lease_until = DATE_ADD(NOW(), INTERVAL :seconds SECOND) " +
+            "WHERE lease_name = :leaseName AND (lease_until <= NOW() OR owner = :owner)", nativeQuery = true)
+    int acquire(@Param("leaseName") String leaseName, @Param("owner") String owner, @Param("seconds") long seconds);
+}
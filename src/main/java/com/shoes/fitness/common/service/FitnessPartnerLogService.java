@@ -3,6 +3,7 @@ package com.shoes.fitness.common.service;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.shoes.fitness.common.repository.FitnessPartnerLogRepository;
+import com.shoes.fitness.common.util.ClientIpResolver;
 import com.shoes.fitness.entity.FitnessPartnerLog;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
@@ -21,6 +22,7 @@ public class FitnessPartnerLogService {
 
     private final FitnessPartnerLogRepository fitnessPartnerLogRepository;
     private final ObjectMapper objectMapper;
+    private final ClientIpResolver clientIpResolver;
 
     /**
      * 피트니스 파트너 활동 로그 기록 (비동기)
@@ -38,7 +40,7 @@ public class FitnessPartnerLogService {
                     .actionType(actionType)
                     .actionDetail(actionDetail)
                     .result(result)
-                    .ipAddress(getClientIp(request))
+                    .ipAddress(clientIpResolver.resolve(request))
                     .userAgent(request.getHeader("User-Agent"))
                     .sessionId(request.getSession(false) != null ? request.getSession().getId() : null)
                     .build();
@@ -202,7 +204,7 @@ public class FitnessPartnerLogService {
                     .beforeValue(beforeJson)
                     .afterValue(afterJson)
                     .result(result)
-                    .ipAddress(getClientIp(request))
+                    .ipAddress(clientIpResolver.resolve(request))
                     .userAgent(request.getHeader("User-Agent"))
                     .sessionId(request.getSession(false) != null ? request.getSession().getId() : null)
                     .build();
@@ -227,25 +229,4 @@ public class FitnessPartnerLogService {
         LocalDateTime since = LocalDateTime.now().minusMinutes(minutes);
         return fitnessPartnerLogRepository.countRecentLoginFailures(fitnessId, since);
     }
-
-    /**
-     * 클라이언트 IP 추출
-     */
-    private String getClientIp(HttpServletRequest request) {
-        if (request == null) {
-            return null;
-        }
-
-        String xForwardedFor = request.getHeader("X-Forwarded-For");
-        if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
-            return xForwardedFor.split(",")[0].trim();
-        }
-
-        String xRealIp = request.getHeader("X-Real-IP");
-        if (xRealIp != null && !xRealIp.isEmpty()) {
-            return xRealIp;
-        }
-
-        return request.getRemoteAddr();
-    }
 }
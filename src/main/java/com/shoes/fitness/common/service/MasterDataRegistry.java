@@ -0,0 +1,158 @@
+package com.shoes.fitness.common.service;
+
+import com.shoes.fitness.common.dto.FacilityMaster;
+import com.shoes.fitness.common.dto.RequirementMaster;
+import com.shoes.fitness.domain.jobposting.repository.RequirementMasterRepository;
+import com.shoes.fitness.domain.minihomepage.repository.FitnessFacilityMasterRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 시설/자격요건 마스터 메모리 저장소
+ * 거의 바뀌지 않는 작은 테이블이라 기동 시 전체를 불변 Map 으로 읽어두고, 주기적으로 또는 수동 요청 시 통째로 교체
+ * 보관/반환하는 값은 엔티티가 아닌 불변 레코드 (FacilityMaster, RequirementMaster) 라 스레드 간 공유와 호출자 수정에 안전
+ * 코드 → 마스터 조회는 모두 이 저장소를 통해 DB 조회 없이 처리
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MasterDataRegistry {
+
+    private final FitnessFacilityMasterRepository facilityMasterRepository;
+    private final RequirementMasterRepository requirementMasterRepository;
+
+    private volatile Snapshot snapshot;
+
+    @PostConstruct
+    public void init() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            // 기동은 계속하고 첫 조회 시 다시 로드
+            log.error("마스터 데이터 초기 로드 실패", e);
+        }
+    }
+
+    /**
+     * 마스터 데이터 전체 다시 로드 (로드 중 실패하면 기존 데이터 유지)
+     */
+    @Scheduled(fixedDelayString = "${master-data.refresh-interval-ms:300000}",
+            initialDelayString = "${master-data.refresh-interval-ms:300000}")
+    public void refresh() {
+        List<FacilityMaster> facilities = facilityMasterRepository.findAll().stream()
+                .map(FacilityMaster::from)
+                .toList();
+        List<RequirementMaster> requirements = requirementMasterRepository.findAll().stream()
+                .map(RequirementMaster::from)
+                .toList();
+
+        snapshot = new Snapshot(
+                toOrderedMap(facilities, FacilityMaster::facilityCode, FacilityMaster::sortOrder),
+                toOrderedMap(requirements, RequirementMaster::requirementCode, RequirementMaster::sortOrder));
+        log.info("마스터 데이터 로드 완료. 시설: {}, 자격요건: {}", facilities.size(), requirements.size());
+    }
+
+    // ==================== 시설 마스터 ====================
+
+    /**
+     * 활성 시설 마스터 (sortOrder 순)
+     */
+    public List<FacilityMaster> getActiveFacilities() {
+        return current().activeFacilities;
+    }
+
+    public FacilityMaster getFacility(String facilityCode) {
+        return facilityCode != null ? current().facilities.get(facilityCode) : null;
+    }
+
+    // ==================== 자격요건 마스터 ====================
+
+    /**
+     * 활성 자격요건 마스터 (sortOrder 순)
+     */
+    public List<RequirementMaster> getActiveRequirements() {
+        return current().activeRequirements;
+    }
+
+    public RequirementMaster getRequirement(String requirementCode) {
+        return requirementCode != null ? current().requirements.get(requirementCode) : null;
+    }
+
+    /**
+     * 자격요건 코드 목록의 비트마스크 (마스터에 없거나 bit_index 가 없는 코드는 제외)
+     */
+    public long toRequirementMask(Collection<String> requirementCodes) {
+        long mask = 0L;
+        if (requirementCodes == null) {
+            return mask;
+        }
+        Map<String, RequirementMaster> requirements = current().requirements;
+        for (String code : requirementCodes) {
+            RequirementMaster master = code != null ? requirements.get(code) : null;
+            if (master != null && master.bitIndex() != null) {
+                mask |= 1L << master.bitIndex();
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * 모든 코드가 비트마스크로 표현 가능한지 (false 면 비트 연산 대신 자격요건 테이블 조회 필요)
+     */
+    public boolean isRequirementMaskable(Collection<String> requirementCodes) {
+        Map<String, RequirementMaster> requirements = current().requirements;
+        return requirementCodes.stream().allMatch(code -> {
+            RequirementMaster master = requirements.get(code);
+            return master != null && master.bitIndex() != null;
+        });
+    }
+
+    private Snapshot current() {
+        Snapshot loaded = snapshot;
+        if (loaded == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    refresh();
+                }
+                loaded = snapshot;
+            }
+        }
+        return loaded;
+    }
+
+    private static <T> Map<String, T> toOrderedMap(List<T> masters, Function<T, String> codeOf, Function<T, Integer> sortOrderOf) {
+        return masters.stream()
+                .sorted(Comparator.comparing(sortOrderOf, Comparator.nullsLast(Comparator.naturalOrder())))
+                .collect(Collectors.toMap(codeOf, m -> m, (a, b) -> a, LinkedHashMap::new));
+    }
+
+    private static final class Snapshot {
+        private final Map<String, FacilityMaster> facilities;
+        private final List<FacilityMaster> activeFacilities;
+        private final Map<String, RequirementMaster> requirements;
+        private final List<RequirementMaster> activeRequirements;
+
+        private Snapshot(Map<String, FacilityMaster> facilities, Map<String, RequirementMaster> requirements) {
+            // Map.copyOf 는 순서를 보장하지 않으므로 정렬된 활성 목록은 별도로 보관
+            this.facilities = Map.copyOf(facilities);
+            this.activeFacilities = facilities.values().stream()
+                    .filter(FacilityMaster::active)
+                    .collect(Collectors.toUnmodifiableList());
+            this.requirements = Map.copyOf(requirements);
+            this.activeRequirements = requirements.values().stream()
+                    .filter(RequirementMaster::active)
+                    .collect(Collectors.toUnmodifiableList());
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.shoes.fitness.common.service;
+
+import com.shoes.fitness.common.repository.SchedulerLeaseRepository;
+import com.shoes.fitness.common.util.UuidUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.net.InetAddress;
+import java.time.Duration;
+
+/**
+ * 스케줄 작업 임대 관리
+ * 임대는 반납하지 않고 기간 만료로 풀리므로, 기간을 실행 주기보다 짧게 두면 주기마다 한 인스턴스만 실행
+ */
+@Slf4j
+@Service
+public class SchedulerLeaseService {
+
+    private final SchedulerLeaseRepository leaseRepository;
+    private final String owner;
+
+    public SchedulerLeaseService(SchedulerLeaseRepository leaseRepository) {
+        this.leaseRepository = leaseRepository;
+        this.owner = resolveHostName() + ":" + UuidUtil.generateShortUuid().substring(0, 8);
+    }
+
+    /**
+     * 임대 획득 시도 (획득하면 true, 다른 인스턴스가 보유 중이면 false)
+     */
+    @Transactional
+    public boolean tryAcquire(String leaseName, Duration duration) {
+        leaseRepository.insertIfAbsent(leaseName);
+        boolean acquired = leaseRepository.acquire(leaseName, owner, duration.getSeconds()) == 1;
+        log.debug("스케줄 임대 획득 시도. leaseName: {}, owner: {}, acquired: {}", leaseName, owner, acquired);
+        return acquired;
+    }
+
+    private static String resolveHostName() {
+        try {
+            String hostName = InetAddress.getLocalHost().getHostName();
+            return hostName.length() > 80 ? hostName.substring(0, 80) : hostName;
+        } catch (Exception e) {
+            return "unknown";
+        }
+    }
+}
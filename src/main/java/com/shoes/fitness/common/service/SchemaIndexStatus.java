@@ -0,0 +1,72 @@
+package com.shoes.fitness.common.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * JPA 로 만들 수 없어 DDL 스크립트(resources/db/schema)로 관리하는 검색 인덱스의 적용 여부
+ * 기동 시와 주기적으로 information_schema 를 확인하고, 인덱스가 없으면 각 검색은 인덱스 없이 동작하는 쿼리로 대체
+ * (인덱스가 없다고 검색 API 가 매 요청 실패하지 않도록 하고, 스크립트 적용 후에는 재기동 없이 인덱스 쿼리로 전환)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SchemaIndexStatus {
+
+    private static final String COMMUNITY_FULLTEXT_INDEX = "ft_post_title_content";
+    private static final String CENTER_GEO_INDEX = "sp_center_geo_point";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile boolean communityFullTextAvailable;
+    private volatile boolean centerGeoIndexAvailable;
+
+    @PostConstruct
+    public void init() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            // 확인 전까지는 인덱스 없이 동작하는 쿼리 사용
+            log.error("검색 인덱스 확인 실패", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${schema-index.check-interval-ms:300000}",
+            initialDelayString = "${schema-index.check-interval-ms:300000}")
+    public void refresh() {
+        boolean fullText = indexExists("fitness_community_post", COMMUNITY_FULLTEXT_INDEX);
+        boolean geo = indexExists("fitness_center", CENTER_GEO_INDEX);
+
+        if (fullText != communityFullTextAvailable || geo != centerGeoIndexAvailable) {
+            log.info("검색 인덱스 상태. {}: {}, {}: {}", COMMUNITY_FULLTEXT_INDEX, fullText, CENTER_GEO_INDEX, geo);
+        }
+        if (!fullText) {
+            log.warn("커뮤니티 FULLTEXT 인덱스 없음 - 키워드 검색은 LIKE 로 동작 (db/schema/community_post_fulltext.sql 적용 필요)");
+        }
+        if (!geo) {
+            log.warn("센터 위치 SPATIAL 인덱스 없음 - 주변 센터 검색은 위경도 범위로 동작 (db/schema/center_geo_point.sql 적용 필요)");
+        }
+        communityFullTextAvailable = fullText;
+        centerGeoIndexAvailable = geo;
+    }
+
+    public boolean isCommunityFullTextAvailable() {
+        return communityFullTextAvailable;
+    }
+
+    public boolean isCenterGeoIndexAvailable() {
+        return centerGeoIndexAvailable;
+    }
+
+    private boolean indexExists(String tableName, String indexName) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.statistics " +
+                        "WHERE table_schema = DATABASE() AND table_name = ? AND index_name = ?",
+                Integer.class, tableName, indexName);
+        return count != null && count > 0;
+    }
+}
@@ -0,0 +1,157 @@
+package com.shoes.fitness.common.service;
+
+import com.shoes.fitness.domain.jobposting.repository.JobPostingRepository;
+import com.shoes.fitness.domain.minihomepage.repository.FitnessCenterEventRepository;
+import com.shoes.fitness.domain.minihomepage.repository.FitnessCenterPageSnapshotRepository;
+import com.shoes.fitness.domain.minihomepage.service.MiniHomepageChangedEvent;
+import com.shoes.fitness.entity.FitnessCenterEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 채용공고/이벤트 상태 일괄 전환
+ * - 채용공고: 마감일이 지난 ACTIVE → EXPIRED
+ * - 이벤트: 시작일이 된 SCHEDULED → ACTIVE, 종료일이 지난 SCHEDULED/ACTIVE → ENDED
+ * (상태, 날짜) 인덱스 범위로 전환 대상만 batchSize 건씩 나눠 각각 짧은 트랜잭션으로 반영하고, 한 번 실행에 최대 maxBatches 회까지만 처리 (남은 건은 다음 주기)
+ * 여러 인스턴스 중 임대를 얻은 한 곳에서만 실행되며, 상태 조건이 WHERE 에 있어 중복 실행되어도 결과는 같음
+ */
+@Slf4j
+@Service
+public class StatusExpiryScheduler {
+
+    private static final String LEASE_NAME = "status-expiry";
+    // 상태별로 (status, end_date) 인덱스 범위 하나씩 조회
+    private static final List<FitnessCenterEvent.EventStatus> ENDABLE_STATUSES =
+            List.of(FitnessCenterEvent.EventStatus.SCHEDULED, FitnessCenterEvent.EventStatus.ACTIVE);
+
+    private final SchedulerLeaseService leaseService;
+    private final JobPostingRepository jobPostingRepository;
+    private final FitnessCenterEventRepository eventRepository;
+    private final FitnessCenterPageSnapshotRepository snapshotRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transaction;
+    private final ZoneId zoneId;
+    private final int batchSize;
+    private final int maxBatches;
+    private final Duration leaseDuration;
+
+    public StatusExpiryScheduler(SchedulerLeaseService leaseService,
+                                 JobPostingRepository jobPostingRepository,
+                                 FitnessCenterEventRepository eventRepository,
+                                 FitnessCenterPageSnapshotRepository snapshotRepository,
+                                 ApplicationEventPublisher eventPublisher,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${operation-hours.zone-id:Asia/Seoul}") String zoneId,
+                                 @Value("${status-expiry.batch-size:500}") int batchSize,
+                                 @Value("${status-expiry.max-batches:20}") int maxBatches,
+                                 @Value("${status-expiry.lease-seconds:240}") long leaseSeconds) {
+        this.leaseService = leaseService;
+        this.jobPostingRepository = jobPostingRepository;
+        this.eventRepository = eventRepository;
+        this.snapshotRepository = snapshotRepository;
+        this.eventPublisher = eventPublisher;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.zoneId = ZoneId.of(zoneId);
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.leaseDuration = Duration.ofSeconds(leaseSeconds);
+    }
+
+    @Scheduled(fixedDelayString = "${status-expiry.interval-ms:300000}", initialDelayString = "${status-expiry.initial-delay-ms:60000}")
+    public void sweep() {
+        try {
+            if (!leaseService.tryAcquire(LEASE_NAME, leaseDuration)) {
+                log.debug("상태 일괄 전환 건너뜀 (다른 인스턴스 실행 중)");
+                return;
+            }
+
+            LocalDate today = LocalDate.now(zoneId);
+            int expiredPostings = expirePostings(today);
+            // 이미 끝난 SCHEDULED 이벤트를 먼저 ENDED 로 보내 시작 대상 범위에 남지 않도록 종료 처리부터 실행
+            int endedEvents = 0;
+            for (FitnessCenterEvent.EventStatus fromStatus : ENDABLE_STATUSES) {
+                endedEvents += transitionEvents(
+                        pageable -> eventRepository.findEnded(fromStatus, today, pageable),
+                        Set.of(fromStatus),
+                        FitnessCenterEvent.EventStatus.ENDED);
+            }
+            int startedEvents = transitionEvents(
+                    pageable -> eventRepository.findStarted(today, pageable),
+                    Set.of(FitnessCenterEvent.EventStatus.SCHEDULED),
+                    FitnessCenterEvent.EventStatus.ACTIVE);
+
+            if (expiredPostings + startedEvents + endedEvents > 0) {
+                log.info("상태 일괄 전환 완료. 기준일: {}, 공고 만료: {}, 이벤트 시작: {}, 이벤트 종료: {}",
+                        today, expiredPostings, startedEvents, endedEvents);
+            }
+        } catch (Exception e) {
+            log.error("상태 일괄 전환 실패. error: {}", e.getMessage(), e);
+        }
+    }
+
+    private int expirePostings(LocalDate today) {
+        int total = 0;
+        for (int batch = 0; batch < maxBatches; batch++) {
+            Integer updated = transaction.execute(status -> jobPostingRepository.expireEndedBefore(today, batchSize));
+            int count = updated != null ? updated : 0;
+            total += count;
+            if (count < batchSize) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * 대상 이벤트를 batchSize 건씩 조회해 상태 변경, 변경된 센터는 미니홈페이지 스냅샷 무효화
+     */
+    private int transitionEvents(Function<PageRequest, List<FitnessCenterEvent>> finder,
+                                 Set<FitnessCenterEvent.EventStatus> fromStatuses,
+                                 FitnessCenterEvent.EventStatus toStatus) {
+        int total = 0;
+        for (int batch = 0; batch < maxBatches; batch++) {
+            Integer updated = transaction.execute(status -> {
+                // 이전 배치에서 바뀐 행은 조건에서 빠지므로 항상 첫 페이지 조회
+                List<FitnessCenterEvent> events = finder.apply(PageRequest.of(0, batchSize));
+                if (events.isEmpty()) {
+                    return 0;
+                }
+
+                List<String> eventIds = events.stream().map(FitnessCenterEvent::getEventId).collect(Collectors.toList());
+                int count = eventRepository.updateStatus(eventIds, fromStatuses, toStatus);
+
+                Set<String> centerIds = events.stream()
+                        .map(FitnessCenterEvent::getCenterId)
+                        .collect(Collectors.toCollection(LinkedHashSet::new));
+                for (String centerId : centerIds) {
+                    snapshotRepository.markStale(centerId);
+                    eventPublisher.publishEvent(new MiniHomepageChangedEvent(centerId));
+                }
+                return count;
+            });
+
+            // 조회 이후 다른 요청이 바꾼 행이 있어 batchSize 보다 적게 반영되면 나머지는 다음 주기에 처리
+            int count = updated != null ? updated : 0;
+            total += count;
+            if (count < batchSize) {
+                break;
+            }
+        }
+        return total;
+    }
+}
@@ -0,0 +1,116 @@
+package com.shoes.fitness.common.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 조회수 쓰기 지연(write-behind) 버퍼
+ * 조회 요청마다 UPDATE 하지 않고 id 별로 누적한 뒤, 주기적으로 배치 UPDATE 로 반영
+ * 누적(merge)과 반영 시 꺼내기(remove)가 모두 ConcurrentHashMap 의 원자 연산이라 그 사이에 들어온 조회수가 유실되지 않음
+ */
+@Slf4j
+@Service
+public class ViewCountBufferService {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transaction;
+
+    private final Map<Target, ConcurrentHashMap<String, Long>> buffers = createBuffers();
+
+    public ViewCountBufferService(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transaction = new TransactionTemplate(transactionManager);
+    }
+
+    public enum Target {
+        COMMUNITY_POST("UPDATE fitness_community_post SET view_count = view_count + ? WHERE post_id = ?"),
+        JOB_POSTING("UPDATE fitness_job_posting SET view_count = view_count + ? WHERE posting_id = ?");
+
+        private final String updateSql;
+
+        Target(String updateSql) {
+            this.updateSql = updateSql;
+        }
+    }
+
+    /**
+     * 조회수 1 증가 (메모리에만 누적)
+     */
+    public void increment(Target target, String id) {
+        buffers.get(target).merge(id, 1L, Long::sum);
+    }
+
+    /**
+     * 아직 DB 에 반영되지 않은 조회수
+     */
+    public long getPendingCount(Target target, String id) {
+        return buffers.get(target).getOrDefault(id, 0L);
+    }
+
+    /**
+     * 누적된 조회수를 DB 에 일괄 반영
+     */
+    @Scheduled(fixedDelayString = "${view-count.flush-interval-ms:5000}")
+    public void flush() {
+        for (Target target : Target.values()) {
+            flush(target);
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시 남은 조회수 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("애플리케이션 종료 - 조회수 버퍼 반영");
+        flush();
+    }
+
+    private void flush(Target target) {
+        ConcurrentHashMap<String, Long> buffer = buffers.get(target);
+        List<Object[]> batchArgs = new ArrayList<>();
+
+        for (String id : buffer.keySet()) {
+            // 꺼내는 즉시 맵에서 빠지므로 이후 조회수는 새 항목에 누적됨
+            Long delta = buffer.remove(id);
+            if (delta != null && delta > 0) {
+                batchArgs.add(new Object[]{delta, id});
+            }
+        }
+
+        if (batchArgs.isEmpty()) {
+            return;
+        }
+
+        try {
+            // 한 트랜잭션으로 반영해서 실패 시 전부 롤백 (일부만 반영된 채 되돌려 중복 집계되는 일 방지)
+            transaction.executeWithoutResult(status -> jdbcTemplate.batchUpdate(target.updateSql, batchArgs));
+            log.debug("조회수 버퍼 반영 완료. target: {}, 건수: {}", target, batchArgs.size());
+        } catch (Exception e) {
+            // 반영 실패 시 다음 주기에 다시 시도하도록 버퍼에 되돌림
+            for (Object[] args : batchArgs) {
+                buffer.merge((String) args[1], (Long) args[0], Long::sum);
+            }
+            log.error("조회수 버퍼 반영 실패. target: {}, 건수: {}, error: {}", target, batchArgs.size(), e.getMessage());
+        }
+    }
+
+    private static Map<Target, ConcurrentHashMap<String, Long>> createBuffers() {
+        Map<Target, ConcurrentHashMap<String, Long>> map = new EnumMap<>(Target.class);
+        for (Target target : Target.values()) {
+            map.put(target, new ConcurrentHashMap<>());
+        }
+        return map;
+    }
+}
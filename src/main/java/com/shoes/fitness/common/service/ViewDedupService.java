@@ -0,0 +1,79 @@
+package com.shoes.fitness.common.service;
+
+import com.shoes.fitness.common.security.UserPrincipal;
+import com.shoes.fitness.common.util.ClientIpResolver;
+import com.shoes.fitness.common.util.RotatingBloomFilter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 조회수 중복 제거
+ * (조회자, 대상 id) 조합을 일정 시간 동안 기억해서 새로고침/봇 반복 조회가 조회수 버퍼까지 가지 않도록 차단
+ */
+@Slf4j
+@Service
+public class ViewDedupService implements MeterBinder {
+
+    private final RotatingBloomFilter filter;
+    private final ClientIpResolver clientIpResolver;
+
+    private final LongAdder acceptedCount = new LongAdder();
+    private final LongAdder droppedCount = new LongAdder();
+
+    public ViewDedupService(@Value("${view-count.dedup.window-minutes:30}") long windowMinutes,
+                            @Value("${view-count.dedup.expected-insertions:200000}") int expectedInsertions,
+                            @Value("${view-count.dedup.false-positive-rate:0.01}") double falsePositiveRate,
+                            ClientIpResolver clientIpResolver) {
+        this.clientIpResolver = clientIpResolver;
+        // 2세대 회전이므로 세대 교체 주기를 window 의 절반으로 두면 중복 판단 구간은 window/2 ~ window
+        this.filter = new RotatingBloomFilter(expectedInsertions, falsePositiveRate, windowMinutes * 60_000L / 2);
+        log.info("조회수 중복 제거 필터 초기화. windowMinutes: {}, bits: {}, hashFunctions: {}",
+                windowMinutes, filter.getNumBits(), filter.getNumHashFunctions());
+    }
+
+    /**
+     * 조회 시간 구간 내 첫 조회이면 true (조회수 증가 대상)
+     */
+    public boolean isFirstView(ViewCountBufferService.Target target, String viewerKey, String id) {
+        boolean first = filter.putIfAbsent(target.name() + ":" + viewerKey + ":" + id);
+        if (first) {
+            acceptedCount.increment();
+        } else {
+            droppedCount.increment();
+        }
+        return first;
+    }
+
+    /**
+     * 조회자 식별 키 (로그인 사용자는 fitnessId, 그 외에는 클라이언트 IP)
+     */
+    public String resolveViewerKey(UserPrincipal userPrincipal, HttpServletRequest request) {
+        if (userPrincipal != null) {
+            return "u:" + userPrincipal.getFitnessId();
+        }
+        return "ip:" + clientIpResolver.resolve(request);
+    }
+
+    /**
+     * Actuator 지표 등록 (관리 포트 /actuator/metrics/view.dedup.*)
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("view.dedup.accepted", acceptedCount, LongAdder::sum)
+                .description("조회수 집계 대상으로 통과한 조회")
+                .register(registry);
+        FunctionCounter.builder("view.dedup.dropped", droppedCount, LongAdder::sum)
+                .description("중복 조회로 판단되어 버린 조회")
+                .register(registry);
+        Gauge.builder("view.dedup.filter.bits", filter, RotatingBloomFilter::getNumBits)
+                .register(registry);
+    }
+}
@@ -0,0 +1,86 @@
+package com.shoes.fitness.common.util;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 클라이언트 IP 추출
+ * X-Forwarded-For / X-Real-IP 는 직접 연결한 주소가 신뢰하는 프록시(client-ip.trusted-proxies)일 때만 사용
+ * (그 외에는 클라이언트가 임의로 넣은 헤더이므로 무시하고 연결 주소 사용)
+ *
+ * X-Forwarded-For 는 오른쪽(가까운 프록시)부터 거슬러 올라가며 신뢰 프록시가 아닌 첫 주소를 클라이언트로 판단
+ * (가장 왼쪽 값은 클라이언트가 위조할 수 있음)
+ */
+@Component
+@Slf4j
+public class ClientIpResolver {
+
+    private final List<IpAddressMatcher> trustedProxies;
+
+    public ClientIpResolver(@Value("${client-ip.trusted-proxies:127.0.0.1,::1}") List<String> trustedProxies) {
+        this.trustedProxies = trustedProxies.stream()
+                .map(String::trim)
+                .filter(proxy -> !proxy.isEmpty())
+                .map(IpAddressMatcher::new)
+                .toList();
+        log.info("클라이언트 IP 신뢰 프록시: {}", trustedProxies);
+    }
+
+    public String resolve(HttpServletRequest request) {
+        if (request == null) {
+            return null;
+        }
+
+        String remoteAddr = request.getRemoteAddr();
+        if (!isTrustedProxy(remoteAddr)) {
+            return remoteAddr;
+        }
+
+        String xForwardedFor = request.getHeader("X-Forwarded-For");
+        if (xForwardedFor != null && !xForwardedFor.isBlank()) {
+            List<String> hops = Arrays.stream(xForwardedFor.split(","))
+                    .map(String::trim)
+                    .filter(hop -> !hop.isEmpty())
+                    .toList();
+            for (int i = hops.size() - 1; i >= 0; i--) {
+                if (!isTrustedProxy(hops.get(i))) {
+                    return hops.get(i);
+                }
+            }
+            if (!hops.isEmpty()) {
+                // 모든 경유지가 신뢰 프록시 (내부 호출)
+                return hops.get(0);
+            }
+        }
+
+        String xRealIp = request.getHeader("X-Real-IP");
+        if (xRealIp != null && !xRealIp.isBlank()) {
+            return xRealIp.trim();
+        }
+
+        return remoteAddr;
+    }
+
+    private boolean isTrustedProxy(String address) {
+        if (address == null) {
+            return false;
+        }
+        for (IpAddressMatcher matcher : trustedProxies) {
+            try {
+                if (matcher.matches(address)) {
+                    return true;
+                }
+            } catch (IllegalArgumentException e) {
+                // IP 형식이 아닌 값 (unknown, 호스트명 등)
+                return false;
+            }
+        }
+        return false;
+    }
+}
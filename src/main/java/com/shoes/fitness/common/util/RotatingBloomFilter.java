@@ -0,0 +1,140 @@
+package com.shoes.fitness.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 시간 구간별로 교체되는 블룸 필터 (현재/이전 2세대)
+ * rotateIntervalMillis 마다 현재 세대를 이전 세대로 넘기고 새 세대를 만들기 때문에
+ * 한 번 기록된 키는 최소 rotateIntervalMillis, 최대 2 * rotateIntervalMillis 동안 "이미 본 키"로 판단됨
+ * 메모리 사용량은 expectedInsertions / falsePositiveRate 로 고정 (세대당 약 numBits / 8 bytes)
+ */
+public class RotatingBloomFilter {
+
+    private static final int LOCK_STRIPES = 64;
+
+    private final int numBits;
+    private final int numHashFunctions;
+    private final long rotateIntervalMillis;
+    private final Object[] locks = new Object[LOCK_STRIPES];
+
+    private volatile Generations generations;
+
+    public RotatingBloomFilter(int expectedInsertions, double falsePositiveRate, long rotateIntervalMillis) {
+        if (expectedInsertions <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1 || rotateIntervalMillis <= 0) {
+            throw new IllegalArgumentException("블룸 필터 설정값이 올바르지 않습니다.");
+        }
+        long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.numBits = (int) Math.min(Integer.MAX_VALUE - 63, Math.max(64, bits));
+        this.numHashFunctions = Math.max(1, (int) Math.round((double) numBits / expectedInsertions * Math.log(2)));
+        this.rotateIntervalMillis = rotateIntervalMillis;
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
+        this.generations = new Generations(new BitArray(numBits), new BitArray(numBits), System.currentTimeMillis());
+    }
+
+    /**
+     * 키를 기록하고, 처음 본 키이면 true 반환
+     * 같은 키에 대한 동시 호출은 같은 락 스트라이프에서 직렬화되므로 둘 중 하나만 true 를 받음
+     */
+    public boolean putIfAbsent(String key) {
+        rotateIfExpired();
+
+        long hash = fnv1a64(key);
+        int hash1 = (int) hash;
+        int hash2 = (int) (hash >>> 32);
+
+        synchronized (locks[(hash1 & 0x7fffffff) % LOCK_STRIPES]) {
+            Generations current = generations;
+            if (current.active.containsAll(hash1, hash2) || current.previous.containsAll(hash1, hash2)) {
+                return false;
+            }
+            current.active.setAll(hash1, hash2);
+            return true;
+        }
+    }
+
+    public int getNumBits() {
+        return numBits;
+    }
+
+    public int getNumHashFunctions() {
+        return numHashFunctions;
+    }
+
+    private void rotateIfExpired() {
+        long now = System.currentTimeMillis();
+        if (now - generations.createdAt < rotateIntervalMillis) {
+            return;
+        }
+        synchronized (this) {
+            Generations current = generations;
+            if (now - current.createdAt >= rotateIntervalMillis) {
+                generations = new Generations(new BitArray(numBits), current.active, now);
+            }
+        }
+    }
+
+    private static long fnv1a64(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= (b & 0xff);
+            hash *= 0x100000001b3L;
+        }
+        // 하위/상위 32비트가 고르게 섞이도록 추가 믹싱
+        hash ^= (hash >>> 33);
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= (hash >>> 33);
+        return hash;
+    }
+
+    private static final class Generations {
+        private final BitArray active;
+        private final BitArray previous;
+        private final long createdAt;
+
+        private Generations(BitArray active, BitArray previous, long createdAt) {
+            this.active = active;
+            this.previous = previous;
+            this.createdAt = createdAt;
+        }
+    }
+
+    private final class BitArray {
+        private final AtomicLongArray words;
+
+        private BitArray(int bits) {
+            this.words = new AtomicLongArray((bits + 63) >>> 6);
+        }
+
+        private boolean containsAll(int hash1, int hash2) {
+            for (int i = 1; i <= numHashFunctions; i++) {
+                if (!get(index(hash1, hash2, i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void setAll(int hash1, int hash2) {
+            for (int i = 1; i <= numHashFunctions; i++) {
+                set(index(hash1, hash2, i));
+            }
+        }
+
+        private int index(int hash1, int hash2, int i) {
+            int combined = hash1 + i * hash2;
+            return (combined & 0x7fffffff) % numBits;
+        }
+
+        private boolean get(int bitIndex) {
+            return (words.get(bitIndex >>> 6) & (1L << bitIndex)) != 0;
+        }
+
+        private void set(int bitIndex) {
+            long mask = 1L << bitIndex;
+            words.getAndUpdate(bitIndex >>> 6, word -> word | mask);
+        }
+    }
+}
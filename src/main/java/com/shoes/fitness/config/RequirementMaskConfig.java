@@ -0,0 +1,110 @@
+package com.shoes.fitness.config;
+
+import com.shoes.fitness.common.service.MasterDataRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+
+@Configuration
+@RequiredArgsConstructor
+@Slf4j
+public class RequirementMaskConfig {
+
+    // 부호 비트는 쓰지 않음 (BIT_OR 결과가 signed BIGINT 범위를 넘지 않도록)
+    private static final int MAX_BITS = 63;
+    private static final int BACKFILL_BATCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final MasterDataRegistry masterDataRegistry;
+
+    /**
+     * 채용공고 자격요건 비트마스크 준비
+     * 1. bit_index 가 없는 자격요건 마스터에 빈 비트 위치 배정 (마스터 행 잠금 후 배정, 63개 초과분은 배정하지 않음)
+     * 2. 새로 배정된 코드를 가진 공고와 마스크가 없는 공고의 requirement_mask 를 자격요건 테이블에서 다시 계산
+     * 비트가 없는 코드는 게시판 검색에서 자격요건 테이블 조회로 처리되므로 실패해도 기동은 계속
+     */
+    @Bean
+    public ApplicationRunner prepareRequirementMask() {
+        return args -> {
+            try {
+                List<String> assigned = new TransactionTemplate(transactionManager).execute(status -> assignBitIndexes());
+                if (assigned != null && !assigned.isEmpty()) {
+                    masterDataRegistry.refresh();
+                }
+
+                int backfilled = backfillMasks();
+                if (backfilled > 0) {
+                    log.info("채용공고 자격요건 마스크 계산 완료. 건수: {}", backfilled);
+                }
+            } catch (Exception e) {
+                log.error("채용공고 자격요건 마스크 준비 실패", e);
+            }
+        };
+    }
+
+    private List<String> assignBitIndexes() {
+        List<Map<String, Object>> masters = jdbcTemplate.queryForList(
+                "SELECT requirement_code, bit_index FROM fitness_requirement_master " +
+                        "ORDER BY created_at, requirement_code FOR UPDATE");
+
+        BitSet used = new BitSet(MAX_BITS);
+        for (Map<String, Object> master : masters) {
+            Object bitIndex = master.get("bit_index");
+            if (bitIndex != null) {
+                used.set(((Number) bitIndex).intValue());
+            }
+        }
+
+        List<String> assigned = new ArrayList<>();
+        for (Map<String, Object> master : masters) {
+            if (master.get("bit_index") != null) {
+                continue;
+            }
+            int next = used.nextClearBit(0);
+            if (next >= MAX_BITS) {
+                log.warn("자격요건 비트 위치 부족. 비트 미배정 코드: {}", master.get("requirement_code"));
+                continue;
+            }
+            String code = (String) master.get("requirement_code");
+            jdbcTemplate.update("UPDATE fitness_requirement_master SET bit_index = ? WHERE requirement_code = ?", next, code);
+            used.set(next);
+            assigned.add(code);
+        }
+
+        if (!assigned.isEmpty()) {
+            // 비트가 없던 시점에 저장된 공고는 마스크에 해당 비트가 빠져 있으므로 다시 계산 대상으로 표시
+            String placeholders = String.join(", ", assigned.stream().map(code -> "?").toList());
+            jdbcTemplate.update("UPDATE fitness_job_posting SET requirement_mask = NULL WHERE posting_id IN (" +
+                    "SELECT posting_id FROM fitness_job_posting_requirement WHERE requirement_code IN (" + placeholders + "))",
+                    assigned.toArray());
+            log.info("자격요건 비트 위치 배정: {}", assigned);
+        }
+        return assigned;
+    }
+
+    private int backfillMasks() {
+        int total = 0;
+        int updated;
+        do {
+            updated = jdbcTemplate.update(
+                    "UPDATE fitness_job_posting p SET requirement_mask = (" +
+                            "SELECT COALESCE(BIT_OR(1 << m.bit_index), 0) FROM fitness_job_posting_requirement r " +
+                            "JOIN fitness_requirement_master m ON m.requirement_code = r.requirement_code " +
+                            "WHERE r.posting_id = p.posting_id AND m.bit_index IS NOT NULL) " +
+                            "WHERE p.requirement_mask IS NULL LIMIT " + BACKFILL_BATCH_SIZE);
+            total += updated;
+        } while (updated == BACKFILL_BATCH_SIZE);
+        return total;
+    }
+}
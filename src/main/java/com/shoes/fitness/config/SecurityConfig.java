@@ -4,6 +4,7 @@ package com.shoes.fitness.config;
 import com.shoes.fitness.common.filter.JwtAuthenticationEntryPoint;
 import com.shoes.fitness.common.filter.JwtAuthenticationFilter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -42,6 +43,8 @@ public class SecurityConfig {
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/api/fitness/auth/**").permitAll()
                         .requestMatchers("/health").permitAll()
+                        // 관리 포트(management.server, 127.0.0.1 바인딩)의 Actuator 엔드포인트
+                        .requestMatchers(EndpointRequest.toAnyEndpoint()).permitAll()
                         .anyRequest().authenticated()
                 )
                 .exceptionHandling(exception -> exception
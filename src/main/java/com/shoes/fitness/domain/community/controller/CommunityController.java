@@ -1,11 +1,14 @@
 package com.shoes.fitness.domain.community.controller;
 
 import com.shoes.fitness.common.dto.ApiResponse;
+import com.shoes.fitness.common.paging.PageQuery;
 import com.shoes.fitness.common.security.CurrentUser;
 import com.shoes.fitness.common.security.UserPrincipal;
 import com.shoes.fitness.common.service.ImageUploadService;
+import com.shoes.fitness.common.service.ViewDedupService;
 import com.shoes.fitness.domain.community.dto.*;
 import com.shoes.fitness.domain.community.service.CommunityService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -23,6 +26,7 @@ public class CommunityController {
 
     private final CommunityService communityService;
     private final ImageUploadService imageUploadService;
+    private final ViewDedupService viewDedupService;
 
     // ==================== 게시글 목록 조회 ====================
 
@@ -33,8 +37,30 @@ public class CommunityController {
             @RequestParam(required = false) String location,
             @RequestParam(required = false) String keyword,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
-        PostListResponse response = communityService.getPosts(category, status, location, keyword, page, size);
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String countMode,
+            @CurrentUser UserPrincipal userPrincipal) {
+        PageQuery pageQuery = PageQuery.of(page, size, countMode);
+        String userId = userPrincipal != null ? userPrincipal.getFitnessId() : null;
+        PostListResponse response = communityService.getPosts(category, status, location, keyword, pageQuery, userId);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    // ==================== 게시글 피드 조회 (커서 기반) ====================
+
+    @GetMapping("/posts/cursor")
+    public ResponseEntity<ApiResponse<PostCursorResponse>> getPostsByCursor(
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean includeCount,
+            @CurrentUser UserPrincipal userPrincipal) {
+        String userId = userPrincipal != null ? userPrincipal.getFitnessId() : null;
+        PostCursorResponse response = communityService.getPostsByCursor(
+                category, status, location, keyword, cursor, size, includeCount, userId);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
@@ -52,8 +78,11 @@ public class CommunityController {
     // ==================== 게시글 조회수 증가 ====================
 
     @PostMapping("/posts/{postId}/view")
-    public ResponseEntity<ApiResponse<Void>> incrementViewCount(@PathVariable String postId) {
-        communityService.incrementViewCount(postId);
+    public ResponseEntity<ApiResponse<Void>> incrementViewCount(
+            @PathVariable String postId,
+            @CurrentUser UserPrincipal userPrincipal,
+            HttpServletRequest request) {
+        communityService.incrementViewCount(postId, viewDedupService.resolveViewerKey(userPrincipal, request));
         return ResponseEntity.ok(ApiResponse.successWithMessage("조회수가 증가되었습니다."));
     }
 
@@ -111,8 +140,10 @@ public class CommunityController {
     @PostMapping("/posts/{postId}/like")
     public ResponseEntity<ApiResponse<LikeResponse>> toggleLike(
             @PathVariable String postId,
+            @RequestParam(required = false) Boolean liked,
             @CurrentUser UserPrincipal userPrincipal) {
-        LikeResponse response = communityService.toggleLike(postId, userPrincipal.getFitnessId());
+        // liked 미지정 시 토글, 지정 시 해당 상태로 변경 (중복 요청에도 같은 결과)
+        LikeResponse response = communityService.changeLike(postId, userPrincipal.getFitnessId(), liked);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
@@ -156,8 +187,10 @@ public class CommunityController {
             @RequestParam(required = false) String category,
             @RequestParam(required = false) String keyword,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
-        PartnerListResponse response = communityService.getPartners(category, keyword, page, size);
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String countMode) {
+        PageQuery pageQuery = PageQuery.of(page, size, countMode);
+        PartnerListResponse response = communityService.getPartners(category, keyword, pageQuery);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
@@ -11,5 +11,9 @@ import java.util.List;
 @Builder
 public class PartnerListResponse {
     private List<PartnerResponse> partners;
-    private long totalCount;
+    private Long totalCount;
+    // true 이면 totalCount 는 서버에 보관된 이전 건수 (countMode=ESTIMATED)
+    private boolean totalCountEstimated;
+    private boolean hasNext;
+    private String filterKey;
 }
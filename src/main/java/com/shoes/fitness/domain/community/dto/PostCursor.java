@@ -0,0 +1,55 @@
+package com.shoes.fitness.domain.community.dto;
+
+import com.shoes.fitness.entity.CommunityPost;
+import lombok.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 게시글 피드 커서 (isNotice, createdAt, postId)
+ * 클라이언트에는 Base64 URL 인코딩된 불투명 문자열로 전달
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PostCursor {
+    private static final String DELIMITER = "|";
+
+    private Boolean isNotice;
+    private LocalDateTime createdAt;
+    private String postId;
+
+    public static PostCursor from(CommunityPost entity) {
+        return PostCursor.builder()
+                .isNotice(Boolean.TRUE.equals(entity.getIsNotice()))
+                .createdAt(entity.getCreatedAt())
+                .postId(entity.getPostId())
+                .build();
+    }
+
+    public String encode() {
+        String raw = isNotice + DELIMITER + createdAt + DELIMITER + postId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PostCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 3);
+            if (parts.length != 3 || parts[2].isEmpty()) {
+                throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+            }
+            return PostCursor.builder()
+                    .isNotice(Boolean.parseBoolean(parts[0]))
+                    .createdAt(LocalDateTime.parse(parts[1]))
+                    .postId(parts[2])
+                    .build();
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+    }
+}
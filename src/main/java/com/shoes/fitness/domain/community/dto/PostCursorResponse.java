@@ -0,0 +1,17 @@
+package com.shoes.fitness.domain.community.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PostCursorResponse {
+    private List<PostResponse> posts;
+    private String nextCursor;
+    private boolean hasNext;
+    private Long totalCount;
+}
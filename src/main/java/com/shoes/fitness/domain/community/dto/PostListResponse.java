@@ -11,7 +11,11 @@ import java.util.List;
 @Builder
 public class PostListResponse {
     private List<PostResponse> posts;
-    private long totalCount;
-    private int totalPages;
+    private Long totalCount;
+    // true 이면 totalCount 는 서버에 보관된 이전 건수 (countMode=ESTIMATED)
+    private boolean totalCountEstimated;
+    private Integer totalPages;
     private int currentPage;
+    private boolean hasNext;
+    private String filterKey;
 }
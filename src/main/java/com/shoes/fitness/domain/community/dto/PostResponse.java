@@ -29,6 +29,7 @@ public class PostResponse {
     private String tradeStatus;
     private String contact;
     private String thumbnailUrl;
+    private Boolean isLiked;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
@@ -51,6 +52,7 @@ public class PostResponse {
                 .locationDetail(entity.getLocationDetail())
                 .tradeStatus(entity.getTradeStatus() != null ? entity.getTradeStatus().name() : null)
                 .contact(entity.getContact())
+                .thumbnailUrl(entity.getThumbnailUrl())
                 .createdAt(entity.getCreatedAt())
                 .updatedAt(entity.getUpdatedAt())
                 .build();
@@ -18,6 +18,9 @@ public interface CommunityCommentRepository extends JpaRepository<CommunityComme
     @Query("SELECT c FROM CommunityComment c WHERE c.parentId = :parentId AND c.isDeleted = false ORDER BY c.createdAt ASC")
     List<CommunityComment> findRepliesByParentId(@Param("parentId") String parentId);
 
+    @Query("SELECT c FROM CommunityComment c WHERE c.postId = :postId AND c.isDeleted = false ORDER BY c.createdAt ASC")
+    List<CommunityComment> findAllByPostId(@Param("postId") String postId);
+
     Optional<CommunityComment> findByCommentIdAndIsDeletedFalse(String commentId);
 
     @Query("SELECT COUNT(c) FROM CommunityComment c WHERE c.postId = :postId AND c.isDeleted = false")
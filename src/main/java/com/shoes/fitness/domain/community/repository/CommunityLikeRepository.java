@@ -2,8 +2,13 @@ package com.shoes.fitness.domain.community.repository;
 
 import com.shoes.fitness.entity.CommunityLike;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -13,5 +18,27 @@ public interface CommunityLikeRepository extends JpaRepository<CommunityLike, St
 
     boolean existsByPostIdAndUserId(String postId, String userId);
 
-    void deleteByPostIdAndUserId(String postId, String userId);
+    /**
+     * 게시글 목록 중 사용자가 좋아요한 게시글 id (unique(post_id, user_id) 인덱스 사용)
+     */
+    @Query("SELECT l.postId FROM CommunityLike l WHERE l.postId IN :postIds AND l.userId = :userId")
+    List<String> findLikedPostIds(@Param("postIds") Collection<String> postIds, @Param("userId") String userId);
+
+    /**
+     * 좋아요 삭제 (삭제된 행 수 반환, 0 이면 좋아요 상태가 아니었음)
+     */
+    @Modifying
+    @Query(value = "DELETE FROM fitness_community_like WHERE post_id = :postId AND user_id = :userId", nativeQuery = true)
+    int deleteLike(@Param("postId") String postId, @Param("userId") String userId);
+
+    /**
+     * 좋아요 추가 (삽입된 행 수 반환, 0 이면 unique(post_id, user_id) 충돌로 이미 좋아요 상태)
+     * 충돌 시 값을 바꾸지 않는 UPDATE 로 처리하므로 datasource 의 useAffectedRows=true 설정에서 0 을 반환
+     * (INSERT IGNORE 와 달리 NOT NULL/길이 초과 등 다른 오류는 그대로 예외)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO fitness_community_like (like_id, post_id, user_id, created_at) " +
+            "VALUES (:likeId, :postId, :userId, NOW()) " +
+            "ON DUPLICATE KEY UPDATE like_id = like_id", nativeQuery = true)
+    int insertLikeIfAbsent(@Param("likeId") String likeId, @Param("postId") String postId, @Param("userId") String userId);
 }
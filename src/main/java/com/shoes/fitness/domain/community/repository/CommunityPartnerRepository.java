@@ -1,8 +1,8 @@
 package com.shoes.fitness.domain.community.repository;
 
 import com.shoes.fitness.entity.CommunityPartner;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -15,7 +15,7 @@ public interface CommunityPartnerRepository extends JpaRepository<CommunityPartn
             "AND (:category IS NULL OR p.category = :category) " +
             "AND (:keyword IS NULL OR p.name LIKE %:keyword%) " +
             "ORDER BY p.sortOrder ASC, p.createdAt DESC")
-    Page<CommunityPartner> findByFilters(
+    Slice<CommunityPartner> findByFilters(
             @Param("category") String category,
             @Param("keyword") String keyword,
             Pageable pageable);
@@ -2,8 +2,11 @@ package com.shoes.fitness.domain.community.repository;
 
 import com.shoes.fitness.entity.CommunityPostImage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -11,5 +14,11 @@ public interface CommunityPostImageRepository extends JpaRepository<CommunityPos
 
     List<CommunityPostImage> findByPostIdOrderBySortOrderAsc(String postId);
 
+    // 게시글별 첫 번째 이미지(썸네일) 일괄 조회
+    @Query("SELECT i FROM CommunityPostImage i WHERE i.postId IN :postIds " +
+            "AND i.sortOrder = (SELECT MIN(i2.sortOrder) FROM CommunityPostImage i2 WHERE i2.postId = i.postId) " +
+            "ORDER BY i.postId ASC, i.createdAt ASC")
+    List<CommunityPostImage> findThumbnailsByPostIdIn(@Param("postIds") Collection<String> postIds);
+
     void deleteByPostId(String postId);
 }
@@ -1,14 +1,16 @@
 package com.shoes.fitness.domain.community.repository;
 
 import com.shoes.fitness.entity.CommunityPost;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -20,7 +22,7 @@ public interface CommunityPostRepository extends JpaRepository<CommunityPost, St
             "AND (:location IS NULL OR p.location LIKE %:location%) " +
             "AND (:keyword IS NULL OR p.title LIKE %:keyword% OR p.content LIKE %:keyword%) " +
             "ORDER BY p.isNotice DESC, p.createdAt DESC")
-    Page<CommunityPost> findByFilters(
+    Slice<CommunityPost> findByFilters(
             @Param("category") CommunityPost.PostCategory category,
             @Param("status") CommunityPost.TradeStatus status,
             @Param("location") String location,
@@ -38,8 +40,101 @@ public interface CommunityPostRepository extends JpaRepository<CommunityPost, St
             @Param("location") String location,
             @Param("keyword") String keyword);
 
+    // 커서(키셋) 페이지네이션 - 첫 페이지 (idx_notice_created_post 역순 스캔)
+    @Query("SELECT p FROM CommunityPost p WHERE p.isDeleted = false " +
+            "AND (:category IS NULL OR p.category = :category) " +
+            "AND (:status IS NULL OR p.tradeStatus = :status) " +
+            "AND (:location IS NULL OR p.location LIKE %:location%) " +
+            "AND (:keyword IS NULL OR p.title LIKE %:keyword% OR p.content LIKE %:keyword%) " +
+            "ORDER BY p.isNotice DESC, p.createdAt DESC, p.postId DESC")
+    List<CommunityPost> findFeedFirstPage(
+            @Param("category") CommunityPost.PostCategory category,
+            @Param("status") CommunityPost.TradeStatus status,
+            @Param("location") String location,
+            @Param("keyword") String keyword,
+            Pageable pageable);
+
+    // 커서(키셋) 페이지네이션 - 공지/일반 구간 하나의 처음부터 (공지 구간을 다 읽은 뒤 일반 구간으로 이어갈 때 사용)
+    @Query("SELECT p FROM CommunityPost p WHERE p.isDeleted = false AND p.isNotice = :isNotice " +
+            "AND (:category IS NULL OR p.category = :category) " +
+            "AND (:status IS NULL OR p.tradeStatus = :status) " +
+            "AND (:location IS NULL OR p.location LIKE %:location%) " +
+            "AND (:keyword IS NULL OR p.title LIKE %:keyword% OR p.content LIKE %:keyword%) " +
+            "ORDER BY p.createdAt DESC, p.postId DESC")
+    List<CommunityPost> findFeedPartition(
+            @Param("category") CommunityPost.PostCategory category,
+            @Param("status") CommunityPost.TradeStatus status,
+            @Param("location") String location,
+            @Param("keyword") String keyword,
+            @Param("isNotice") Boolean isNotice,
+            Pageable pageable);
+
+    // 커서(키셋) 페이지네이션 - 공지/일반 구간 하나에서 (createdAt, postId) 커서 이후
+    // is_notice 등치 + created_at <= 커서 범위라 idx_notice_created_post 범위 검색으로 시작 (페이지 깊이와 무관한 비용)
+    @Query("SELECT p FROM CommunityPost p WHERE p.isDeleted = false AND p.isNotice = :isNotice " +
+            "AND p.createdAt <= :cursorCreatedAt " +
+            "AND (p.createdAt < :cursorCreatedAt OR p.postId < :cursorPostId) " +
+            "AND (:category IS NULL OR p.category = :category) " +
+            "AND (:status IS NULL OR p.tradeStatus = :status) " +
+            "AND (:location IS NULL OR p.location LIKE %:location%) " +
+            "AND (:keyword IS NULL OR p.title LIKE %:keyword% OR p.content LIKE %:keyword%) " +
+            "ORDER BY p.createdAt DESC, p.postId DESC")
+    List<CommunityPost> findFeedPartitionAfter(
+            @Param("category") CommunityPost.PostCategory category,
+            @Param("status") CommunityPost.TradeStatus status,
+            @Param("location") String location,
+            @Param("keyword") String keyword,
+            @Param("isNotice") Boolean isNotice,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorPostId") String cursorPostId,
+            Pageable pageable);
+
+    // 네이티브 쿼리 - 제목/내용 FULLTEXT(ngram) 검색, 관련도순 정렬
+    @Query(value = """
+        SELECT p.* FROM fitness_community_post p
+        WHERE p.is_deleted = false
+          AND (:category IS NULL OR p.category = :category)
+          AND (:status IS NULL OR p.trade_status = :status)
+          AND (:location IS NULL OR p.location LIKE CONCAT('%', :location, '%'))
+          AND MATCH(p.title, p.content) AGAINST (:keyword IN BOOLEAN MODE)
+        ORDER BY MATCH(p.title, p.content) AGAINST (:keyword IN BOOLEAN MODE) DESC, p.created_at DESC
+        """, nativeQuery = true)
+    Slice<CommunityPost> searchByFullText(
+            @Param("category") String category,
+            @Param("status") String status,
+            @Param("location") String location,
+            @Param("keyword") String keyword,
+            Pageable pageable);
+
+    // 네이티브 쿼리 - FULLTEXT 검색 건수
+    @Query(value = """
+        SELECT COUNT(*) FROM fitness_community_post p
+        WHERE p.is_deleted = false
+          AND (:category IS NULL OR p.category = :category)
+          AND (:status IS NULL OR p.trade_status = :status)
+          AND (:location IS NULL OR p.location LIKE CONCAT('%', :location, '%'))
+          AND MATCH(p.title, p.content) AGAINST (:keyword IN BOOLEAN MODE)
+        """, nativeQuery = true)
+    long countByFullText(
+            @Param("category") String category,
+            @Param("status") String status,
+            @Param("location") String location,
+            @Param("keyword") String keyword);
+
     Optional<CommunityPost> findByPostIdAndIsDeletedFalse(String postId);
 
+    boolean existsByPostIdAndIsDeletedFalse(String postId);
+
+    @Query("SELECT p.likeCount FROM CommunityPost p WHERE p.postId = :postId AND p.isDeleted = false")
+    Optional<Integer> findLikeCount(@Param("postId") String postId);
+
+    @Query("SELECT p.postId FROM CommunityPost p WHERE p.thumbnailUrl IS NULL AND p.postId > :lastPostId ORDER BY p.postId ASC")
+    List<String> findPostIdsWithoutThumbnail(@Param("lastPostId") String lastPostId, Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE CommunityPost p SET p.thumbnailUrl = :thumbnailUrl WHERE p.postId = :postId")
+    void updateThumbnailUrl(@Param("postId") String postId, @Param("thumbnailUrl") String thumbnailUrl);
+
     @Modifying
     @Query("UPDATE CommunityPost p SET p.viewCount = p.viewCount + 1 WHERE p.postId = :postId")
     void incrementViewCount(@Param("postId") String postId);
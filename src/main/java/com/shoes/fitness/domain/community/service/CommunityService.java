@@ -1,18 +1,32 @@
 package com.shoes.fitness.domain.community.service;
 
+import com.shoes.fitness.common.paging.PageQuery;
+import com.shoes.fitness.common.paging.PageResult;
+import com.shoes.fitness.common.paging.PagingExecutor;
+import com.shoes.fitness.common.service.SchemaIndexStatus;
+import com.shoes.fitness.common.service.ViewCountBufferService;
+import com.shoes.fitness.common.service.ViewDedupService;
+import com.shoes.fitness.common.util.UuidUtil;
 import com.shoes.fitness.domain.community.dto.*;
 import com.shoes.fitness.domain.community.repository.*;
 import com.shoes.fitness.entity.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
+import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -21,53 +35,167 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class CommunityService {
 
+    private static final int FULLTEXT_MIN_KEYWORD_LENGTH = 2;
+    private static final String POST_TABLE = "fitness_community_post";
+    private static final String PARTNER_TABLE = "fitness_community_partner";
+    private static final int LIKE_MAX_ATTEMPTS = 3;
+    private static final int MYSQL_DEADLOCK_ERROR = 1213;
+
     private final CommunityPostRepository postRepository;
     private final CommunityPostImageRepository postImageRepository;
     private final CommunityCommentRepository commentRepository;
     private final CommunityLikeRepository likeRepository;
     private final CommunityPartnerRepository partnerRepository;
+    private final PagingExecutor pagingExecutor;
+    private final ViewCountBufferService viewCountBufferService;
+    private final ViewDedupService viewDedupService;
+    private final SchemaIndexStatus schemaIndexStatus;
+    private final PlatformTransactionManager transactionManager;
 
     // ==================== 게시글 목록 조회 ====================
 
-    public PostListResponse getPosts(String category, String status, String location, String keyword, int page, int size) {
-        CommunityPost.PostCategory postCategory = null;
-        if (category != null && !category.isEmpty()) {
-            postCategory = CommunityPost.PostCategory.valueOf(category);
+    public PostListResponse getPosts(String category, String status, String location, String keyword,
+                                     PageQuery pageQuery, String userId) {
+        CommunityPost.PostCategory postCategory = parseCategory(category);
+        CommunityPost.TradeStatus tradeStatus = parseTradeStatus(status);
+        String filterKey = PageQuery.filterKey(POST_TABLE, postCategory, tradeStatus, location, keyword);
+
+        PageResult<CommunityPost> result;
+        if (isFullTextSearchable(keyword) && schemaIndexStatus.isCommunityFullTextAvailable()) {
+            // 키워드 검색은 FULLTEXT 인덱스 사용 (관련도순, 인덱스 적용 전에는 LIKE 검색)
+            String categoryName = postCategory != null ? postCategory.name() : null;
+            String statusName = tradeStatus != null ? tradeStatus.name() : null;
+            String phrase = toFullTextPhrase(keyword);
+            result = pagingExecutor.execute(pageQuery, filterKey,
+                    pageable -> postRepository.searchByFullText(categoryName, statusName, location, phrase, pageable),
+                    () -> postRepository.countByFullText(categoryName, statusName, location, phrase));
+        } else {
+            result = pagingExecutor.execute(pageQuery, filterKey,
+                    pageable -> postRepository.findByFilters(postCategory, tradeStatus, location, keyword, pageable),
+                    () -> postRepository.countByFilters(postCategory, tradeStatus, location, keyword));
         }
 
-        CommunityPost.TradeStatus tradeStatus = null;
-        if (status != null && !status.isEmpty()) {
-            tradeStatus = CommunityPost.TradeStatus.valueOf(status);
+        // 썸네일은 게시글 저장 시 thumbnailUrl 컬럼에 반영되므로 이미지 테이블 조회 없이 응답
+        List<PostResponse> postResponses = toPostResponses(result.getContent(), userId);
+
+        return PostListResponse.builder()
+                .posts(postResponses)
+                .totalCount(result.getTotalCount())
+                .totalCountEstimated(result.isTotalCountEstimated())
+                .totalPages(result.getTotalPages())
+                .currentPage(pageQuery.getPage())
+                .hasNext(result.isHasNext())
+                .filterKey(result.getFilterKey())
+                .build();
+    }
+
+    // ==================== 게시글 피드 조회 (커서 기반) ====================
+
+    /**
+     * 무한 스크롤용 커서 기반 목록 조회
+     * OFFSET 없이 마지막 게시글 (isNotice, createdAt, postId) 이후를 조회하며, 전체 건수는 includeCount=true 일 때만 조회
+     */
+    public PostCursorResponse getPostsByCursor(String category, String status, String location, String keyword,
+                                               String cursor, int size, boolean includeCount, String userId) {
+        CommunityPost.PostCategory postCategory = parseCategory(category);
+        CommunityPost.TradeStatus tradeStatus = parseTradeStatus(status);
+        PostCursor after = (cursor != null && !cursor.isEmpty()) ? PostCursor.decode(cursor) : null;
+
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        int limit = size + 1;
+        List<CommunityPost> posts;
+        if (after == null) {
+            posts = postRepository.findFeedFirstPage(postCategory, tradeStatus, location, keyword, PageRequest.of(0, limit));
+        } else {
+            // 커서가 속한 구간(공지/일반)에서 이어서 조회하고, 공지 구간이 끝나면 일반 구간 처음부터 채움
+            boolean cursorNotice = Boolean.TRUE.equals(after.getIsNotice());
+            posts = new ArrayList<>(postRepository.findFeedPartitionAfter(
+                    postCategory, tradeStatus, location, keyword,
+                    cursorNotice, after.getCreatedAt(), after.getPostId(), PageRequest.of(0, limit)));
+            if (cursorNotice && posts.size() < limit) {
+                posts.addAll(postRepository.findFeedPartition(
+                        postCategory, tradeStatus, location, keyword, false, PageRequest.of(0, limit - posts.size())));
+            }
         }
 
-        Pageable pageable = PageRequest.of(page, size);
-        Page<CommunityPost> postsPage = postRepository.findByFilters(postCategory, tradeStatus, location, keyword, pageable);
-        long totalCount = postRepository.countByFilters(postCategory, tradeStatus, location, keyword);
+        boolean hasNext = posts.size() > size;
+        if (hasNext) {
+            posts = posts.subList(0, size);
+        }
 
-        List<PostResponse> postResponses = postsPage.getContent().stream()
-                .map(post -> {
-                    List<CommunityPostImage> images = postImageRepository.findByPostIdOrderBySortOrderAsc(post.getPostId());
-                    String thumbnailUrl = images.isEmpty() ? null : images.get(0).getImageUrl();
-                    return PostResponse.fromWithThumbnail(post, thumbnailUrl);
-                })
-                .collect(Collectors.toList());
+        List<PostResponse> postResponses = toPostResponses(posts, userId);
 
-        return PostListResponse.builder()
+        return PostCursorResponse.builder()
                 .posts(postResponses)
-                .totalCount(totalCount)
-                .totalPages(postsPage.getTotalPages())
-                .currentPage(page)
+                .nextCursor(hasNext ? PostCursor.from(posts.get(posts.size() - 1)).encode() : null)
+                .hasNext(hasNext)
+                .totalCount(includeCount ? postRepository.countByFilters(postCategory, tradeStatus, location, keyword) : null)
                 .build();
     }
 
+    /**
+     * 목록 응답 변환 + 현재 사용자의 좋아요 여부를 페이지 단위 1회 조회로 채움
+     */
+    private List<PostResponse> toPostResponses(List<CommunityPost> posts, String userId) {
+        Set<String> likedPostIds = Collections.emptySet();
+        if (userId != null && !posts.isEmpty()) {
+            List<String> postIds = posts.stream().map(CommunityPost::getPostId).collect(Collectors.toList());
+            likedPostIds = new HashSet<>(likeRepository.findLikedPostIds(postIds, userId));
+        }
+
+        List<PostResponse> responses = new ArrayList<>(posts.size());
+        for (CommunityPost post : posts) {
+            PostResponse response = PostResponse.from(post);
+            response.setIsLiked(likedPostIds.contains(post.getPostId()));
+            responses.add(response);
+        }
+        return responses;
+    }
+
+    private CommunityPost.PostCategory parseCategory(String category) {
+        if (category == null || category.isEmpty()) {
+            return null;
+        }
+        return CommunityPost.PostCategory.valueOf(category);
+    }
+
+    private CommunityPost.TradeStatus parseTradeStatus(String status) {
+        if (status == null || status.isEmpty()) {
+            return null;
+        }
+        return CommunityPost.TradeStatus.valueOf(status);
+    }
+
+    /**
+     * ngram 토큰 크기보다 짧은 키워드는 FULLTEXT로 검색되지 않으므로 LIKE 검색 사용
+     */
+    private boolean isFullTextSearchable(String keyword) {
+        return keyword != null && keyword.replace("\"", "").trim().length() >= FULLTEXT_MIN_KEYWORD_LENGTH;
+    }
+
+    /**
+     * BOOLEAN MODE 구문 검색어로 변환 (연산자 문자가 검색어에 섞여도 그대로 검색되도록 따옴표로 감쌈)
+     */
+    private String toFullTextPhrase(String keyword) {
+        return "\"" + keyword.replace("\"", "").trim() + "\"";
+    }
+
     // ==================== 게시글 조회수 증가 ====================
 
-    @Transactional
-    public void incrementViewCount(String postId) {
-        CommunityPost post = postRepository.findByPostIdAndIsDeletedFalse(postId)
-                .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다. ID: " + postId));
-        postRepository.incrementViewCount(postId);
-        log.info("게시글 조회수 증가. postId: {}", postId);
+    public void incrementViewCount(String postId, String viewerKey) {
+        // 존재 확인을 먼저 해서 없는 id 가 중복 제거 필터를 채우지 않도록 함
+        if (!postRepository.existsByPostIdAndIsDeletedFalse(postId)) {
+            throw new IllegalArgumentException("게시글을 찾을 수 없습니다. ID: " + postId);
+        }
+        // 같은 조회자의 반복 조회는 버퍼에 넣지 않음
+        if (!viewDedupService.isFirstView(ViewCountBufferService.Target.COMMUNITY_POST, viewerKey, postId)) {
+            log.debug("중복 조회 무시. postId: {}", postId);
+            return;
+        }
+
+        // 행 잠금 경합을 피하기 위해 버퍼에 누적 후 주기적으로 일괄 반영
+        viewCountBufferService.increment(ViewCountBufferService.Target.COMMUNITY_POST, postId);
+        log.debug("게시글 조회수 증가. postId: {}", postId);
     }
 
     // ==================== 게시글 상세 조회 ====================
@@ -92,21 +220,33 @@ public class CommunityService {
         // 작성자 여부
         boolean isOwner = userId != null && userId.equals(post.getAuthorId());
 
-        return PostDetailResponse.from(post, images, comments, isLiked, isOwner);
+        PostDetailResponse response = PostDetailResponse.from(post, images, comments, isLiked, isOwner);
+        response.setViewCount((post.getViewCount() == null ? 0 : post.getViewCount())
+                + (int) viewCountBufferService.getPendingCount(ViewCountBufferService.Target.COMMUNITY_POST, postId));
+        return response;
     }
 
     public List<CommentResponse> getComments(String postId) {
         return getCommentsWithReplies(postId);
     }
 
+    /**
+     * 게시글의 댓글을 한 번에 조회한 뒤 메모리에서 댓글/대댓글 트리로 조립
+     */
     private List<CommentResponse> getCommentsWithReplies(String postId) {
-        List<CommunityComment> rootComments = commentRepository.findRootCommentsByPostId(postId);
+        List<CommunityComment> comments = commentRepository.findAllByPostId(postId);
+
+        // createdAt 오름차순으로 조회되므로 그룹핑 후에도 순서가 유지됨
+        Map<String, List<CommentResponse>> repliesByParentId = comments.stream()
+                .filter(comment -> comment.getParentId() != null)
+                .collect(Collectors.groupingBy(CommunityComment::getParentId,
+                        Collectors.mapping(CommentResponse::from, Collectors.toList())));
 
-        return rootComments.stream()
+        return comments.stream()
+                .filter(comment -> comment.getParentId() == null)
                 .map(comment -> {
                     CommentResponse response = CommentResponse.from(comment);
-                    List<CommunityComment> replies = commentRepository.findRepliesByParentId(comment.getCommentId());
-                    response.setReplies(replies.stream().map(CommentResponse::from).collect(Collectors.toList()));
+                    response.setReplies(repliesByParentId.getOrDefault(comment.getCommentId(), new ArrayList<>()));
                     return response;
                 })
                 .collect(Collectors.toList());
@@ -148,22 +288,26 @@ public class CommunityService {
 
         // 이미지 저장
         if (request.getImageUrls() != null && !request.getImageUrls().isEmpty()) {
-            savePostImages(saved.getPostId(), request.getImageUrls());
+            savePostImages(saved, request.getImageUrls());
         }
 
         return PostResponse.from(saved);
     }
 
-    private void savePostImages(String postId, List<String> imageUrls) {
+    /**
+     * 게시글 이미지 저장 및 썸네일(첫 번째 이미지) 갱신
+     */
+    private void savePostImages(CommunityPost post, List<String> imageUrls) {
         int order = 0;
         for (String imageUrl : imageUrls) {
             CommunityPostImage image = CommunityPostImage.builder()
-                    .postId(postId)
+                    .postId(post.getPostId())
                     .imageUrl(imageUrl)
                     .sortOrder(order++)
                     .build();
             postImageRepository.save(image);
         }
+        post.setThumbnailUrl(imageUrls.isEmpty() ? null : imageUrls.get(0));
     }
 
     // ==================== 게시글 수정 ====================
@@ -190,7 +334,7 @@ public class CommunityService {
         // 이미지 업데이트
         if (request.getImageUrls() != null) {
             postImageRepository.deleteByPostId(postId);
-            savePostImages(postId, request.getImageUrls());
+            savePostImages(saved, request.getImageUrls());
         }
 
         return PostResponse.from(saved);
@@ -236,36 +380,69 @@ public class CommunityService {
 
     // ==================== 좋아요 토글 ====================
 
-    @Transactional
+    /**
+     * 좋아요 토글
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public LikeResponse toggleLike(String postId, String userId) {
-        CommunityPost post = postRepository.findByPostIdAndIsDeletedFalse(postId)
-                .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다."));
+        return changeLike(postId, userId, null);
+    }
+
+    /**
+     * 좋아요 변경 (liked 가 null 이면 토글, true/false 면 해당 상태로 맞춤 - 더블 탭에도 결과가 같음)
+     * 게시글 행을 잠그지 않고 unique(post_id, user_id) 기준 INSERT/DELETE 의 변경 행 수로만 상태를 판단하고,
+     * 같은 게시글 동시 첫 좋아요에서 생길 수 있는 데드락(1213)은 트랜잭션 전체를 다시 실행
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public LikeResponse changeLike(String postId, String userId, Boolean liked) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transaction.execute(status -> applyLike(postId, userId, liked));
+            } catch (DataAccessException e) {
+                if (attempt >= LIKE_MAX_ATTEMPTS || !isDeadlock(e)) {
+                    throw e;
+                }
+                log.warn("좋아요 변경 데드락 - 재시도. postId: {}, userId: {}, attempt: {}", postId, userId, attempt);
+            }
+        }
+    }
 
-        boolean liked;
-        if (likeRepository.existsByPostIdAndUserId(postId, userId)) {
-            likeRepository.deleteByPostIdAndUserId(postId, userId);
+    private LikeResponse applyLike(String postId, String userId, Boolean liked) {
+        boolean result;
+        if (!Boolean.FALSE.equals(liked)
+                && likeRepository.insertLikeIfAbsent(UuidUtil.generateShortUuid(), postId, userId) > 0) {
+            result = true;
+            postRepository.incrementLikeCount(postId);
+        } else if (!Boolean.TRUE.equals(liked) && likeRepository.deleteLike(postId, userId) > 0) {
+            // 토글인데 이미 좋아요 상태였거나, 좋아요 취소 요청
+            result = false;
             postRepository.decrementLikeCount(postId);
-            post.decrementLikeCount();
-            liked = false;
         } else {
-            CommunityLike like = CommunityLike.builder()
-                    .postId(postId)
-                    .userId(userId)
-                    .build();
-            likeRepository.save(like);
-            postRepository.incrementLikeCount(postId);
-            post.incrementLikeCount();
-            liked = true;
+            // 변경 없음 (이미 요청한 상태이거나, 토글 중 같은 사용자의 다른 요청이 먼저 취소)
+            result = Boolean.TRUE.equals(liked);
         }
 
-        log.info("좋아요 토글. postId: {}, userId: {}, liked: {}", postId, userId, liked);
+        // 삭제/없는 게시글이면 예외로 롤백 (좋아요 행도 함께 취소)
+        int likeCount = postRepository.findLikeCount(postId)
+                .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다."));
 
+        log.info("좋아요 변경. postId: {}, userId: {}, liked: {}", postId, userId, result);
         return LikeResponse.builder()
-                .liked(liked)
-                .likeCount(post.getLikeCount())
+                .liked(result)
+                .likeCount(Math.max(0, likeCount))
                 .build();
     }
 
+    private static boolean isDeadlock(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException && sqlException.getErrorCode() == MYSQL_DEADLOCK_ERROR) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     // ==================== 댓글 등록 ====================
 
     @Transactional
@@ -319,18 +496,23 @@ public class CommunityService {
 
     // ==================== 협력사 목록 조회 ====================
 
-    public PartnerListResponse getPartners(String category, String keyword, int page, int size) {
-        Pageable pageable = PageRequest.of(page, size);
-        Page<CommunityPartner> partnersPage = partnerRepository.findByFilters(category, keyword, pageable);
-        long totalCount = partnerRepository.countByFilters(category, keyword);
+    public PartnerListResponse getPartners(String category, String keyword, PageQuery pageQuery) {
+        String filterKey = PageQuery.filterKey(PARTNER_TABLE, category, keyword);
+
+        PageResult<CommunityPartner> result = pagingExecutor.execute(pageQuery, filterKey,
+                pageable -> partnerRepository.findByFilters(category, keyword, pageable),
+                () -> partnerRepository.countByFilters(category, keyword));
 
-        List<PartnerResponse> partnerResponses = partnersPage.getContent().stream()
+        List<PartnerResponse> partnerResponses = result.getContent().stream()
                 .map(PartnerResponse::from)
                 .collect(Collectors.toList());
 
         return PartnerListResponse.builder()
                 .partners(partnerResponses)
-                .totalCount(totalCount)
+                .totalCount(result.getTotalCount())
+                .totalCountEstimated(result.isTotalCountEstimated())
+                .hasNext(result.isHasNext())
+                .filterKey(result.getFilterKey())
                 .build();
     }
 }
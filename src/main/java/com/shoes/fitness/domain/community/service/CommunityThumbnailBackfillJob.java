@@ -0,0 +1,68 @@
+package com.shoes.fitness.domain.community.service;
+
+import com.shoes.fitness.domain.community.repository.CommunityPostImageRepository;
+import com.shoes.fitness.domain.community.repository.CommunityPostRepository;
+import com.shoes.fitness.entity.CommunityPostImage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 기존 게시글의 thumbnailUrl 컬럼 일괄 채우기 (1회성 작업)
+ * community.thumbnail-backfill.enabled=true 로 기동했을 때만 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "community.thumbnail-backfill", name = "enabled", havingValue = "true")
+public class CommunityThumbnailBackfillJob implements ApplicationRunner {
+
+    private final CommunityPostRepository postRepository;
+    private final CommunityPostImageRepository postImageRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${community.thumbnail-backfill.batch-size:500}")
+    private int batchSize;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        log.info("게시글 썸네일 백필 시작. batchSize: {}", batchSize);
+
+        String lastPostId = "";
+        int scanned = 0;
+        int updated = 0;
+
+        while (true) {
+            List<String> postIds = postRepository.findPostIdsWithoutThumbnail(lastPostId, PageRequest.of(0, batchSize));
+            if (postIds.isEmpty()) {
+                break;
+            }
+
+            Integer batchUpdated = transactionTemplate.execute(status -> backfillBatch(postIds));
+            scanned += postIds.size();
+            updated += batchUpdated != null ? batchUpdated : 0;
+            lastPostId = postIds.get(postIds.size() - 1);
+        }
+
+        log.info("게시글 썸네일 백필 완료. 조회 건수: {}, 갱신 건수: {}", scanned, updated);
+    }
+
+    private int backfillBatch(List<String> postIds) {
+        Map<String, String> thumbnailMap = postImageRepository.findThumbnailsByPostIdIn(postIds)
+                .stream()
+                .collect(Collectors.toMap(CommunityPostImage::getPostId, CommunityPostImage::getImageUrl, (first, second) -> first));
+
+        thumbnailMap.forEach(postRepository::updateThumbnailUrl);
+        return thumbnailMap.size();
+    }
+}
@@ -1,15 +1,20 @@
 package com.shoes.fitness.domain.jobposting.controller;
 
 import com.shoes.fitness.common.dto.ApiResponse;
+import com.shoes.fitness.common.paging.PageQuery;
 import com.shoes.fitness.common.security.CurrentUser;
 import com.shoes.fitness.common.security.UserPrincipal;
+import com.shoes.fitness.common.service.ViewDedupService;
 import com.shoes.fitness.domain.jobposting.dto.*;
 import com.shoes.fitness.domain.jobposting.service.JobPostingService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @Slf4j
@@ -19,6 +24,7 @@ import java.util.List;
 public class JobPostingController {
 
     private final JobPostingService jobPostingService;
+    private final ViewDedupService viewDedupService;
 
     // ==================== 자격요건 마스터 목록 조회 ====================
 
@@ -36,9 +42,38 @@ public class JobPostingController {
             @RequestParam(required = false) String status,
             @RequestParam(required = false) String keyword,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String countMode) {
+        PageQuery pageQuery = PageQuery.of(page, size, countMode);
         JobPostingListResponse response = jobPostingService.getPostings(
-                userPrincipal.getFitnessId(), status, keyword, page, size);
+                userPrincipal.getFitnessId(), status, keyword, pageQuery);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    // ==================== 채용 게시판 (전체 센터) ====================
+
+    @GetMapping("/board")
+    public ResponseEntity<ApiResponse<JobPostingListResponse>> getBoard(
+            @RequestParam(required = false) String employmentType,
+            @RequestParam(required = false) List<String> requirements,
+            @RequestParam(required = false) String region,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "recent") String sort,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String countMode) {
+        PageQuery pageQuery = PageQuery.of(page, size, countMode);
+        JobPostingListResponse response = jobPostingService.getBoard(
+                employmentType, requirements, region, from, to, sort, pageQuery);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @GetMapping("/board/match")
+    public ResponseEntity<ApiResponse<List<JobPostingResponse>>> getMatchingPostings(
+            @RequestParam List<String> requirements,
+            @RequestParam(defaultValue = "20") int size) {
+        List<JobPostingResponse> response = jobPostingService.getMatchingPostings(requirements, size);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
@@ -97,8 +132,11 @@ public class JobPostingController {
     // ==================== 조회수 증가 ====================
 
     @PostMapping("/{postingId}/view")
-    public ResponseEntity<ApiResponse<Void>> incrementViewCount(@PathVariable String postingId) {
-        jobPostingService.incrementViewCount(postingId);
+    public ResponseEntity<ApiResponse<Void>> incrementViewCount(
+            @PathVariable String postingId,
+            @CurrentUser UserPrincipal userPrincipal,
+            HttpServletRequest request) {
+        jobPostingService.incrementViewCount(postingId, viewDedupService.resolveViewerKey(userPrincipal, request));
         return ResponseEntity.ok(ApiResponse.success());
     }
 
@@ -12,4 +12,8 @@ import java.util.List;
 public class JobPostingListResponse {
     private List<JobPostingResponse> postings;
     private Long totalCount;
+    // true 이면 totalCount 는 서버에 보관된 이전 건수 (countMode=ESTIMATED)
+    private boolean totalCountEstimated;
+    private boolean hasNext;
+    private String filterKey;
 }
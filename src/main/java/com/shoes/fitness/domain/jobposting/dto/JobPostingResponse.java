@@ -1,5 +1,6 @@
 package com.shoes.fitness.domain.jobposting.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.shoes.fitness.entity.FitnessJobPosting;
 import lombok.*;
 
@@ -27,6 +28,14 @@ public class JobPostingResponse {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private List<PostingRequirementResponse> requirements;
+    // 채용 게시판 조회 시에만 포함
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String centerName;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String centerAddress;
+    // 자격요건 매칭 조회 시에만 포함
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Double matchScore;
 
     public static JobPostingResponse from(FitnessJobPosting entity) {
         return JobPostingResponse.builder()
@@ -1,6 +1,6 @@
 package com.shoes.fitness.domain.jobposting.dto;
 
-import com.shoes.fitness.entity.FitnessRequirementMaster;
+import com.shoes.fitness.common.dto.RequirementMaster;
 import lombok.*;
 
 @Getter
@@ -13,11 +13,11 @@ public class PostingRequirementResponse {
     private String requirementName;
     private String category;
 
-    public static PostingRequirementResponse from(FitnessRequirementMaster master) {
+    public static PostingRequirementResponse from(RequirementMaster master) {
         return PostingRequirementResponse.builder()
-                .requirementCode(master.getRequirementCode())
-                .requirementName(master.getRequirementName())
-                .category(master.getCategory())
+                .requirementCode(master.requirementCode())
+                .requirementName(master.requirementName())
+                .category(master.category())
                 .build();
     }
 }
@@ -1,6 +1,6 @@
 package com.shoes.fitness.domain.jobposting.dto;
 
-import com.shoes.fitness.entity.FitnessRequirementMaster;
+import com.shoes.fitness.common.dto.RequirementMaster;
 import lombok.*;
 
 import java.time.LocalDateTime;
@@ -18,14 +18,14 @@ public class RequirementMasterResponse {
     private Boolean isActive;
     private LocalDateTime createdAt;
 
-    public static RequirementMasterResponse from(FitnessRequirementMaster entity) {
+    public static RequirementMasterResponse from(RequirementMaster master) {
         return RequirementMasterResponse.builder()
-                .requirementCode(entity.getRequirementCode())
-                .requirementName(entity.getRequirementName())
-                .category(entity.getCategory())
-                .sortOrder(entity.getSortOrder())
-                .isActive(entity.getIsActive())
-                .createdAt(entity.getCreatedAt())
+                .requirementCode(master.requirementCode())
+                .requirementName(master.requirementName())
+                .category(master.category())
+                .sortOrder(master.sortOrder())
+                .isActive(master.active())
+                .createdAt(master.createdAt())
                 .build();
     }
 }
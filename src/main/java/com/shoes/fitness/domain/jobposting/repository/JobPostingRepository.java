@@ -3,12 +3,15 @@ package com.shoes.fitness.domain.jobposting.repository;
 import com.shoes.fitness.entity.FitnessJobPosting;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,7 +26,7 @@ public interface JobPostingRepository extends JpaRepository<FitnessJobPosting, S
             "AND (:status IS NULL OR p.status = :status) " +
             "AND (:keyword IS NULL OR p.title LIKE %:keyword%) " +
             "ORDER BY p.createdAt DESC")
-    Page<FitnessJobPosting> findByFilters(
+    Slice<FitnessJobPosting> findByFilters(
             @Param("centerId") String centerId,
             @Param("status") FitnessJobPosting.PostingStatus status,
             @Param("keyword") String keyword,
@@ -37,6 +40,104 @@ public interface JobPostingRepository extends JpaRepository<FitnessJobPosting, S
             @Param("status") FitnessJobPosting.PostingStatus status,
             @Param("keyword") String keyword);
 
+    /**
+     * 전체 센터 대상 채용 게시판 검색 (정렬은 Pageable 의 Sort 로 지정)
+     * 자격요건은 mask 비트를 모두 가진 공고만 (requirement_mask 비트 연산, mask = 0 이면 조건 없음)
+     * 지역은 센터 주소 앞부분 일치 (idx_center_address 범위 검색)
+     */
+    @Query("SELECT p FROM FitnessJobPosting p " +
+            "WHERE p.isActive = true AND p.status = :status " +
+            "AND p.endDate >= :from AND (:to IS NULL OR p.startDate <= :to) " +
+            "AND (:employmentType IS NULL OR p.employmentType = :employmentType) " +
+            "AND (:region IS NULL OR p.centerId IN (" +
+            "SELECT c.centerId FROM FitnessCenter c WHERE c.address LIKE CONCAT(:region, '%'))) " +
+            "AND (:mask = 0 OR bitand(p.requirementMask, :mask) = :mask)")
+    Slice<FitnessJobPosting> findBoard(
+            @Param("status") FitnessJobPosting.PostingStatus status,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to,
+            @Param("employmentType") FitnessJobPosting.EmploymentType employmentType,
+            @Param("region") String region,
+            @Param("mask") long mask,
+            Pageable pageable);
+
+    @Query("SELECT COUNT(p) FROM FitnessJobPosting p " +
+            "WHERE p.isActive = true AND p.status = :status " +
+            "AND p.endDate >= :from AND (:to IS NULL OR p.startDate <= :to) " +
+            "AND (:employmentType IS NULL OR p.employmentType = :employmentType) " +
+            "AND (:region IS NULL OR p.centerId IN (" +
+            "SELECT c.centerId FROM FitnessCenter c WHERE c.address LIKE CONCAT(:region, '%'))) " +
+            "AND (:mask = 0 OR bitand(p.requirementMask, :mask) = :mask)")
+    long countBoard(
+            @Param("status") FitnessJobPosting.PostingStatus status,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to,
+            @Param("employmentType") FitnessJobPosting.EmploymentType employmentType,
+            @Param("region") String region,
+            @Param("mask") long mask);
+
+    /**
+     * 채용 게시판 검색 - 비트가 없는 자격요건 코드가 섞인 경우
+     * codes 를 모두 가진 공고를 자격요건 테이블에서 찾음 (codes 는 비어 있지 않고 중복 없음, codeCount = codes 크기)
+     */
+    @Query("SELECT p FROM FitnessJobPosting p " +
+            "WHERE p.isActive = true AND p.status = :status " +
+            "AND p.endDate >= :from AND (:to IS NULL OR p.startDate <= :to) " +
+            "AND (:employmentType IS NULL OR p.employmentType = :employmentType) " +
+            "AND (:region IS NULL OR p.centerId IN (" +
+            "SELECT c.centerId FROM FitnessCenter c WHERE c.address LIKE CONCAT(:region, '%'))) " +
+            "AND p.postingId IN (" +
+            "SELECT r.postingId FROM FitnessJobPostingRequirement r WHERE r.requirementId IN :codes " +
+            "GROUP BY r.postingId HAVING COUNT(DISTINCT r.requirementId) = :codeCount)")
+    Slice<FitnessJobPosting> findBoardByRequirements(
+            @Param("status") FitnessJobPosting.PostingStatus status,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to,
+            @Param("employmentType") FitnessJobPosting.EmploymentType employmentType,
+            @Param("region") String region,
+            @Param("codes") Collection<String> codes,
+            @Param("codeCount") long codeCount,
+            Pageable pageable);
+
+    @Query("SELECT COUNT(p) FROM FitnessJobPosting p " +
+            "WHERE p.isActive = true AND p.status = :status " +
+            "AND p.endDate >= :from AND (:to IS NULL OR p.startDate <= :to) " +
+            "AND (:employmentType IS NULL OR p.employmentType = :employmentType) " +
+            "AND (:region IS NULL OR p.centerId IN (" +
+            "SELECT c.centerId FROM FitnessCenter c WHERE c.address LIKE CONCAT(:region, '%'))) " +
+            "AND p.postingId IN (" +
+            "SELECT r.postingId FROM FitnessJobPostingRequirement r WHERE r.requirementId IN :codes " +
+            "GROUP BY r.postingId HAVING COUNT(DISTINCT r.requirementId) = :codeCount)")
+    long countBoardByRequirements(
+            @Param("status") FitnessJobPosting.PostingStatus status,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to,
+            @Param("employmentType") FitnessJobPosting.EmploymentType employmentType,
+            @Param("region") String region,
+            @Param("codes") Collection<String> codes,
+            @Param("codeCount") long codeCount);
+
+    /**
+     * 자격요건 매칭 후보 (mask 와 겹치는 비트가 하나라도 있는 모집 중 공고의 id/마스크, 최신순)
+     */
+    @Query("SELECT p.postingId, p.requirementMask FROM FitnessJobPosting p " +
+            "WHERE p.isActive = true AND p.status = :status AND p.endDate >= :today " +
+            "AND bitand(p.requirementMask, :mask) <> 0 ORDER BY p.createdAt DESC")
+    List<Object[]> findMatchCandidates(
+            @Param("status") FitnessJobPosting.PostingStatus status,
+            @Param("today") LocalDate today,
+            @Param("mask") long mask,
+            Pageable pageable);
+
+    /**
+     * 마감일이 지난 모집 중 공고를 최대 limit 건 EXPIRED 로 변경
+     * idx_posting_status_end_date 의 (ACTIVE, end_date < today) 범위만 읽고 end_date 순서로 limit 에서 멈춤
+     */
+    @Modifying
+    @Query(value = "UPDATE fitness_job_posting SET status = 'EXPIRED', updated_at = NOW() " +
+            "WHERE status = 'ACTIVE' AND end_date < :today ORDER BY end_date LIMIT :limit", nativeQuery = true)
+    int expireEndedBefore(@Param("today") LocalDate today, @Param("limit") int limit);
+
     Optional<FitnessJobPosting> findByPostingIdAndCenterId(String postingId, String centerId);
 
     @Modifying
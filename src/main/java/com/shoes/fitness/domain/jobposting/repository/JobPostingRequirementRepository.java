@@ -4,6 +4,7 @@ import com.shoes.fitness.entity.FitnessJobPostingRequirement;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -11,5 +12,8 @@ public interface JobPostingRequirementRepository extends JpaRepository<FitnessJo
 
     List<FitnessJobPostingRequirement> findByPostingId(String postingId);
 
-    void deleteByPostingId(String postingId);
+    /**
+     * 목록 페이지의 공고별 자격요건을 한 번에 조회 (idx_requirement_posting_id 사용)
+     */
+    List<FitnessJobPostingRequirement> findByPostingIdIn(Collection<String> postingIds);
 }
@@ -1,25 +1,36 @@
 package com.shoes.fitness.domain.jobposting.service;
 
+import com.shoes.fitness.common.dto.RequirementMaster;
+import com.shoes.fitness.common.paging.PageQuery;
+import com.shoes.fitness.common.paging.PageResult;
+import com.shoes.fitness.common.paging.PagingExecutor;
+import com.shoes.fitness.common.service.MasterDataRegistry;
+import com.shoes.fitness.common.service.ViewCountBufferService;
+import com.shoes.fitness.common.service.ViewDedupService;
 import com.shoes.fitness.domain.jobposting.dto.*;
 import com.shoes.fitness.domain.jobposting.repository.JobPostingRepository;
 import com.shoes.fitness.domain.jobposting.repository.JobPostingRequirementRepository;
-import com.shoes.fitness.domain.jobposting.repository.RequirementMasterRepository;
 import com.shoes.fitness.domain.minihomepage.repository.FitnessCenterRepository;
+import com.shoes.fitness.domain.minihomepage.service.CenterIdResolver;
 import com.shoes.fitness.entity.FitnessCenter;
 import com.shoes.fitness.entity.FitnessJobPosting;
 import com.shoes.fitness.entity.FitnessJobPostingRequirement;
-import com.shoes.fitness.entity.FitnessRequirementMaster;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -28,15 +39,23 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class JobPostingService {
 
+    private static final int MATCH_MAX_SIZE = 50;
+    // 매칭 점수 계산 대상 후보 수 상한 (최신순)
+    private static final int MATCH_CANDIDATE_LIMIT = 2000;
+
     private final JobPostingRepository jobPostingRepository;
     private final JobPostingRequirementRepository requirementRepository;
-    private final RequirementMasterRepository requirementMasterRepository;
+    private final MasterDataRegistry masterDataRegistry;
+    private final CenterIdResolver centerIdResolver;
     private final FitnessCenterRepository centerRepository;
+    private final PagingExecutor pagingExecutor;
+    private final ViewCountBufferService viewCountBufferService;
+    private final ViewDedupService viewDedupService;
 
     // ==================== 자격요건 마스터 ====================
 
     public List<RequirementMasterResponse> getRequirementMasterList() {
-        return requirementMasterRepository.findByIsActiveTrueOrderBySortOrderAsc()
+        return masterDataRegistry.getActiveRequirements()
                 .stream()
                 .map(RequirementMasterResponse::from)
                 .collect(Collectors.toList());
@@ -44,33 +63,161 @@ public class JobPostingService {
 
     // ==================== 채용공고 목록 조회 ====================
 
-    public JobPostingListResponse getPostings(String fitnessId, String status, String keyword, int page, int size) {
-        FitnessCenter center = getCenterByFitnessId(fitnessId);
+    public JobPostingListResponse getPostings(String fitnessId, String status, String keyword, PageQuery pageQuery) {
+        String centerId = getCenterIdByFitnessId(fitnessId);
 
         FitnessJobPosting.PostingStatus postingStatus = null;
         if (status != null && !status.isEmpty()) {
             postingStatus = parseStatus(status);
         }
+        FitnessJobPosting.PostingStatus statusFilter = postingStatus;
 
-        Pageable pageable = PageRequest.of(page, size);
-        Page<FitnessJobPosting> postingsPage = jobPostingRepository.findByFilters(
-                center.getCenterId(), postingStatus, keyword, pageable);
+        PageResult<FitnessJobPosting> result = pagingExecutor.execute(pageQuery,
+                PageQuery.filterKey("job-posting.center", centerId, statusFilter, keyword),
+                pageable -> jobPostingRepository.findByFilters(centerId, statusFilter, keyword, pageable),
+                () -> jobPostingRepository.countByFilters(centerId, statusFilter, keyword));
 
-        long totalCount = jobPostingRepository.countByFilters(center.getCenterId(), postingStatus, keyword);
+        // 페이지 내 공고의 자격요건은 IN 조회 한 번으로 가져와 메모리에서 결합
+        Map<String, List<PostingRequirementResponse>> requirementsByPosting = getRequirementsForPostings(
+                result.getContent().stream().map(FitnessJobPosting::getPostingId).collect(Collectors.toList()));
 
-        List<JobPostingResponse> postingResponses = postingsPage.getContent().stream()
-                .map(posting -> {
-                    List<PostingRequirementResponse> requirements = getRequirementsForPosting(posting.getPostingId());
-                    return JobPostingResponse.from(posting, requirements);
-                })
+        List<JobPostingResponse> postingResponses = result.getContent().stream()
+                .map(posting -> JobPostingResponse.from(posting,
+                        requirementsByPosting.getOrDefault(posting.getPostingId(), new ArrayList<>())))
                 .collect(Collectors.toList());
 
         return JobPostingListResponse.builder()
                 .postings(postingResponses)
-                .totalCount(totalCount)
+                .totalCount(result.getTotalCount())
+                .totalCountEstimated(result.isTotalCountEstimated())
+                .hasNext(result.isHasNext())
+                .filterKey(result.getFilterKey())
+                .build();
+    }
+
+    // ==================== 채용 게시판 (전체 센터) ====================
+
+    /**
+     * 모든 센터의 모집 중인 공고 검색
+     * 기간 미지정 시 오늘 이후 마감 공고, sort 는 recent(최신순) / popular(조회수순)
+     */
+    public JobPostingListResponse getBoard(String employmentType, List<String> requirementCodes, String region,
+                                           LocalDate from, LocalDate to, String sort, PageQuery pageQuery) {
+        FitnessJobPosting.EmploymentType typeFilter = employmentType != null && !employmentType.isEmpty()
+                ? parseEmploymentType(employmentType) : null;
+        List<String> codes = requirementCodes == null ? new ArrayList<>() : requirementCodes.stream()
+                .filter(code -> code != null && !code.isBlank())
+                .distinct()
+                .collect(Collectors.toList());
+        String regionFilter = region != null && !region.isBlank() ? region.trim() : null;
+        LocalDate fromDate = from != null ? from : LocalDate.now();
+        if (to != null && to.isBefore(fromDate)) {
+            throw new IllegalArgumentException("조회 기간이 올바르지 않습니다.");
+        }
+        Sort boardSort = parseBoardSort(sort);
+
+        // 자격요건은 requirement_mask 비트 연산으로 거르고, 비트가 없는 코드가 섞인 경우에만 자격요건 테이블 조회
+        boolean maskable = codes.isEmpty() || masterDataRegistry.isRequirementMaskable(codes);
+        FitnessJobPosting.PostingStatus status = FitnessJobPosting.PostingStatus.ACTIVE;
+        String filterKey = PageQuery.filterKey("job-posting.board", typeFilter, codes, regionFilter, fromDate, to, sort);
+
+        PageResult<FitnessJobPosting> result;
+        if (maskable) {
+            long mask = codes.isEmpty() ? 0L : masterDataRegistry.toRequirementMask(codes);
+            result = pagingExecutor.execute(pageQuery, filterKey,
+                    pageable -> jobPostingRepository.findBoard(status, fromDate, to, typeFilter, regionFilter, mask,
+                            PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), boardSort)),
+                    () -> jobPostingRepository.countBoard(status, fromDate, to, typeFilter, regionFilter, mask));
+        } else {
+            long codeCount = codes.size();
+            result = pagingExecutor.execute(pageQuery, filterKey,
+                    pageable -> jobPostingRepository.findBoardByRequirements(status, fromDate, to, typeFilter, regionFilter,
+                            codes, codeCount,
+                            PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), boardSort)),
+                    () -> jobPostingRepository.countBoardByRequirements(status, fromDate, to, typeFilter, regionFilter,
+                            codes, codeCount));
+        }
+
+        return JobPostingListResponse.builder()
+                .postings(toBoardResponses(result.getContent()))
+                .totalCount(result.getTotalCount())
+                .totalCountEstimated(result.isTotalCountEstimated())
+                .hasNext(result.isHasNext())
+                .filterKey(result.getFilterKey())
                 .build();
     }
 
+    /**
+     * 보유 자격요건과 맞는 모집 중 공고 (매칭률 높은 순)
+     * 겹치는 비트가 있는 공고 중 최신 후보를 (id, 마스크) 만 조회해 메모리에서 비트 연산으로 점수 계산
+     * matchScore = 공고 자격요건 중 보유한 비율 (0 ~ 1), 동점이면 겹치는 개수가 많은 순 → 최신순
+     */
+    public List<JobPostingResponse> getMatchingPostings(List<String> requirementCodes, int size) {
+        long mask = masterDataRegistry.toRequirementMask(requirementCodes);
+        if (mask == 0L) {
+            return new ArrayList<>();
+        }
+        int limit = Math.max(1, Math.min(size, MATCH_MAX_SIZE));
+
+        List<Object[]> candidates = jobPostingRepository.findMatchCandidates(
+                FitnessJobPosting.PostingStatus.ACTIVE, LocalDate.now(), mask, PageRequest.of(0, MATCH_CANDIDATE_LIMIT));
+
+        // 후보 순서(최신순)를 동점 처리에 쓰기 위해 안정 정렬
+        List<Object[]> ranked = candidates.stream()
+                .sorted(Comparator.<Object[]>comparingDouble(row -> matchScore((Long) row[1], mask)).reversed()
+                        .thenComparing(Comparator.<Object[]>comparingInt(row -> Long.bitCount((Long) row[1] & mask)).reversed()))
+                .limit(limit)
+                .collect(Collectors.toList());
+
+        Map<String, FitnessJobPosting> postings = jobPostingRepository.findAllById(ranked.stream()
+                        .map(row -> (String) row[0])
+                        .collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.toMap(FitnessJobPosting::getPostingId, posting -> posting));
+        List<FitnessJobPosting> ordered = ranked.stream()
+                .map(row -> postings.get((String) row[0]))
+                .filter(posting -> posting != null)
+                .collect(Collectors.toList());
+
+        List<JobPostingResponse> responses = toBoardResponses(ordered);
+        for (int i = 0; i < responses.size(); i++) {
+            responses.get(i).setMatchScore(Math.round(matchScore(ordered.get(i).getRequirementMask(), mask) * 100) / 100.0);
+        }
+        return responses;
+    }
+
+    private static double matchScore(long postingMask, long mask) {
+        int required = Long.bitCount(postingMask);
+        return required == 0 ? 0d : (double) Long.bitCount(postingMask & mask) / required;
+    }
+
+    /**
+     * 게시판 응답 (자격요건/센터 정보는 IN 조회로 한 번에 결합)
+     */
+    private List<JobPostingResponse> toBoardResponses(List<FitnessJobPosting> postings) {
+        Map<String, List<PostingRequirementResponse>> requirementsByPosting = getRequirementsForPostings(postings.stream()
+                .map(FitnessJobPosting::getPostingId)
+                .collect(Collectors.toList()));
+        Map<String, FitnessCenter> centers = centerRepository.findAllById(postings.stream()
+                        .map(FitnessJobPosting::getCenterId)
+                        .collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(FitnessCenter::getCenterId, center -> center));
+
+        return postings.stream()
+                .map(posting -> {
+                    JobPostingResponse response = JobPostingResponse.from(posting,
+                            requirementsByPosting.getOrDefault(posting.getPostingId(), new ArrayList<>()));
+                    FitnessCenter center = centers.get(posting.getCenterId());
+                    if (center != null) {
+                        response.setCenterName(center.getCenterName());
+                        response.setCenterAddress(center.getAddress());
+                    }
+                    return response;
+                })
+                .collect(Collectors.toList());
+    }
+
     // ==================== 채용공고 상세 조회 ====================
 
     public JobPostingResponse getPostingDetail(String postingId) {
@@ -85,10 +232,10 @@ public class JobPostingService {
 
     @Transactional
     public JobPostingResponse createPosting(String fitnessId, JobPostingRequest request) {
-        FitnessCenter center = getCenterByFitnessId(fitnessId);
+        String centerId = getCenterIdByFitnessId(fitnessId);
 
         FitnessJobPosting posting = FitnessJobPosting.builder()
-                .centerId(center.getCenterId())
+                .centerId(centerId)
                 .title(request.getTitle())
                 .employmentType(parseEmploymentType(request.getEmploymentType()))
                 .salary(request.getSalary())
@@ -96,13 +243,14 @@ public class JobPostingService {
                 .endDate(request.getEndDate())
                 .description(request.getDescription())
                 .status(FitnessJobPosting.PostingStatus.ACTIVE)
+                .requirementMask(masterDataRegistry.toRequirementMask(request.getRequirementIds()))
                 .viewCount(0)
                 .applyCount(0)
                 .isActive(true)
                 .build();
 
         FitnessJobPosting saved = jobPostingRepository.save(posting);
-        log.info("채용공고 등록. postingId: {}, centerId: {}", saved.getPostingId(), center.getCenterId());
+        log.info("채용공고 등록. postingId: {}, centerId: {}", saved.getPostingId(), centerId);
 
         // 자격요건 저장
         if (request.getRequirementIds() != null && !request.getRequirementIds().isEmpty()) {
@@ -117,9 +265,9 @@ public class JobPostingService {
 
     @Transactional
     public JobPostingResponse updatePosting(String fitnessId, String postingId, JobPostingRequest request) {
-        FitnessCenter center = getCenterByFitnessId(fitnessId);
+        String centerId = getCenterIdByFitnessId(fitnessId);
 
-        FitnessJobPosting posting = jobPostingRepository.findByPostingIdAndCenterId(postingId, center.getCenterId())
+        FitnessJobPosting posting = jobPostingRepository.findByPostingIdAndCenterId(postingId, centerId)
                 .orElseThrow(() -> new IllegalArgumentException("채용공고를 찾을 수 없거나 권한이 없습니다."));
 
         posting.setTitle(request.getTitle());
@@ -128,6 +276,7 @@ public class JobPostingService {
         posting.setStartDate(request.getStartDate());
         posting.setEndDate(request.getEndDate());
         posting.setDescription(request.getDescription());
+        posting.setRequirementMask(masterDataRegistry.toRequirementMask(request.getRequirementIds()));
 
         if (request.getStatus() != null) {
             posting.setStatus(parseStatus(request.getStatus()));
@@ -136,13 +285,11 @@ public class JobPostingService {
         FitnessJobPosting saved = jobPostingRepository.save(posting);
         log.info("채용공고 수정. postingId: {}", postingId);
 
-        // 자격요건 업데이트
-        requirementRepository.deleteByPostingId(postingId);
-        if (request.getRequirementIds() != null && !request.getRequirementIds().isEmpty()) {
-            saveRequirements(postingId, request.getRequirementIds());
-        }
-
-        List<PostingRequirementResponse> requirements = getRequirementsForPosting(saved.getPostingId());
+        // 자격요건은 기존과 비교해 빠진 코드만 삭제, 새 코드만 추가
+        List<PostingRequirementResponse> requirements = syncRequirements(postingId, request.getRequirementIds())
+                .stream()
+                .map(this::toRequirementResponse)
+                .collect(Collectors.toList());
         return JobPostingResponse.from(saved, requirements);
     }
 
@@ -150,9 +297,9 @@ public class JobPostingService {
 
     @Transactional
     public void deletePosting(String fitnessId, String postingId) {
-        FitnessCenter center = getCenterByFitnessId(fitnessId);
+        String centerId = getCenterIdByFitnessId(fitnessId);
 
-        FitnessJobPosting posting = jobPostingRepository.findByPostingIdAndCenterId(postingId, center.getCenterId())
+        FitnessJobPosting posting = jobPostingRepository.findByPostingIdAndCenterId(postingId, centerId)
                 .orElseThrow(() -> new IllegalArgumentException("채용공고를 찾을 수 없거나 권한이 없습니다."));
 
         posting.setIsActive(false);
@@ -164,9 +311,9 @@ public class JobPostingService {
 
     @Transactional
     public StatusChangeResponse changeStatus(String fitnessId, String postingId, StatusChangeRequest request) {
-        FitnessCenter center = getCenterByFitnessId(fitnessId);
+        String centerId = getCenterIdByFitnessId(fitnessId);
 
-        FitnessJobPosting posting = jobPostingRepository.findByPostingIdAndCenterId(postingId, center.getCenterId())
+        FitnessJobPosting posting = jobPostingRepository.findByPostingIdAndCenterId(postingId, centerId)
                 .orElseThrow(() -> new IllegalArgumentException("채용공고를 찾을 수 없거나 권한이 없습니다."));
 
         posting.setStatus(parseStatus(request.getStatus()));
@@ -182,41 +329,92 @@ public class JobPostingService {
 
     // ==================== 조회수 증가 ====================
 
-    @Transactional
-    public void incrementViewCount(String postingId) {
-        jobPostingRepository.incrementViewCount(postingId);
+    public void incrementViewCount(String postingId, String viewerKey) {
+        // 존재 확인을 먼저 해서 없는 id 가 중복 제거 필터와 조회수 버퍼를 채우지 않도록 함
+        if (!jobPostingRepository.existsById(postingId)) {
+            throw new IllegalArgumentException("채용공고를 찾을 수 없습니다. ID: " + postingId);
+        }
+        // 같은 조회자의 반복 조회는 무시
+        if (!viewDedupService.isFirstView(ViewCountBufferService.Target.JOB_POSTING, viewerKey, postingId)) {
+            log.debug("중복 조회 무시. postingId: {}", postingId);
+            return;
+        }
+
+        // 행 잠금 경합을 피하기 위해 버퍼에 누적 후 주기적으로 일괄 반영
+        viewCountBufferService.increment(ViewCountBufferService.Target.JOB_POSTING, postingId);
         log.debug("조회수 증가. postingId: {}", postingId);
     }
 
     // ==================== 통계 조회 ====================
 
     public JobPostingStatsResponse getStats(String fitnessId, String postingId) {
-        FitnessCenter center = getCenterByFitnessId(fitnessId);
+        String centerId = getCenterIdByFitnessId(fitnessId);
 
-        FitnessJobPosting posting = jobPostingRepository.findByPostingIdAndCenterId(postingId, center.getCenterId())
+        FitnessJobPosting posting = jobPostingRepository.findByPostingIdAndCenterId(postingId, centerId)
                 .orElseThrow(() -> new IllegalArgumentException("채용공고를 찾을 수 없거나 권한이 없습니다."));
 
         return JobPostingStatsResponse.builder()
-                .viewCount(posting.getViewCount())
+                .viewCount((posting.getViewCount() == null ? 0 : posting.getViewCount())
+                        + (int) viewCountBufferService.getPendingCount(ViewCountBufferService.Target.JOB_POSTING, postingId))
                 .applyCount(posting.getApplyCount())
                 .build();
     }
 
     // ==================== Helper Methods ====================
 
-    private FitnessCenter getCenterByFitnessId(String fitnessId) {
-        return centerRepository.findByFitnessId(fitnessId)
-                .orElseThrow(() -> new IllegalArgumentException("센터를 찾을 수 없습니다. 먼저 센터 정보를 등록해주세요."));
+    private String getCenterIdByFitnessId(String fitnessId) {
+        return centerIdResolver.getCenterId(fitnessId, "센터를 찾을 수 없습니다. 먼저 센터 정보를 등록해주세요.");
     }
 
-    private void saveRequirements(String postingId, List<String> requirementIds) {
-        for (String requirementId : requirementIds) {
-            FitnessJobPostingRequirement requirement = FitnessJobPostingRequirement.builder()
-                    .postingId(postingId)
-                    .requirementId(requirementId)
-                    .build();
-            requirementRepository.save(requirement);
+    private List<FitnessJobPostingRequirement> saveRequirements(String postingId, Collection<String> requirementIds) {
+        List<FitnessJobPostingRequirement> requirements = requirementIds.stream()
+                .map(requirementId -> FitnessJobPostingRequirement.builder()
+                        .postingId(postingId)
+                        .requirementId(requirementId)
+                        .build())
+                .collect(Collectors.toList());
+        // id 는 @PrePersist 에서 배정되므로 hibernate.jdbc.batch_size 단위로 묶어서 INSERT
+        return requirementRepository.saveAll(requirements);
+    }
+
+    /**
+     * 공고 자격요건을 요청 목록과 같게 맞춤 (요청 순서로 반환)
+     * 요청에 없는 코드(중복 행 포함)는 DELETE 1회, 새 코드는 일괄 INSERT, 이미 있는 코드의 행은 그대로 유지
+     */
+    private List<FitnessJobPostingRequirement> syncRequirements(String postingId, List<String> requirementIds) {
+        Set<String> requested = new LinkedHashSet<>();
+        if (requirementIds != null) {
+            requirementIds.stream()
+                    .filter(code -> code != null && !code.isBlank())
+                    .forEach(requested::add);
+        }
+
+        Map<String, FitnessJobPostingRequirement> kept = new HashMap<>();
+        List<FitnessJobPostingRequirement> deletes = new ArrayList<>();
+        for (FitnessJobPostingRequirement existing : requirementRepository.findByPostingId(postingId)) {
+            if (requested.contains(existing.getRequirementId()) && !kept.containsKey(existing.getRequirementId())) {
+                kept.put(existing.getRequirementId(), existing);
+            } else {
+                deletes.add(existing);
+            }
+        }
+
+        List<String> inserts = requested.stream()
+                .filter(code -> !kept.containsKey(code))
+                .collect(Collectors.toList());
+
+        if (!deletes.isEmpty()) {
+            requirementRepository.deleteAllInBatch(deletes);
         }
+        Map<String, FitnessJobPostingRequirement> inserted = inserts.isEmpty() ? new HashMap<>()
+                : saveRequirements(postingId, inserts).stream()
+                        .collect(Collectors.toMap(FitnessJobPostingRequirement::getRequirementId, requirement -> requirement));
+        log.debug("채용공고 자격요건 동기화. postingId: {}, 유지: {}, 추가: {}, 삭제: {}",
+                postingId, kept.size(), inserts.size(), deletes.size());
+
+        return requested.stream()
+                .map(code -> kept.containsKey(code) ? kept.get(code) : inserted.get(code))
+                .collect(Collectors.toList());
     }
 
     private List<PostingRequirementResponse> getRequirementsForPosting(String postingId) {
@@ -226,25 +424,45 @@ public class JobPostingService {
             return new ArrayList<>();
         }
 
-        List<String> codes = postingRequirements.stream()
-                .map(FitnessJobPostingRequirement::getRequirementId)
+        return postingRequirements.stream()
+                .map(this::toRequirementResponse)
                 .collect(Collectors.toList());
+    }
 
-        Map<String, FitnessRequirementMaster> masterMap = requirementMasterRepository.findByRequirementCodeIn(codes)
-                .stream()
-                .collect(Collectors.toMap(FitnessRequirementMaster::getRequirementCode, m -> m));
+    /**
+     * 여러 공고의 자격요건 (postingId 별, 조회 순서 유지)
+     */
+    private Map<String, List<PostingRequirementResponse>> getRequirementsForPostings(List<String> postingIds) {
+        if (postingIds.isEmpty()) {
+            return new HashMap<>();
+        }
 
-        return postingRequirements.stream()
-                .map(pr -> {
-                    FitnessRequirementMaster master = masterMap.get(pr.getRequirementId());
-                    if (master != null) {
-                        return PostingRequirementResponse.from(master);
-                    }
-                    return PostingRequirementResponse.builder()
-                            .requirementCode(pr.getRequirementId())
-                            .build();
-                })
-                .collect(Collectors.toList());
+        return requirementRepository.findByPostingIdIn(postingIds).stream()
+                .collect(Collectors.groupingBy(FitnessJobPostingRequirement::getPostingId,
+                        Collectors.mapping(this::toRequirementResponse, Collectors.toList())));
+    }
+
+    /**
+     * 자격요건 코드의 이름/설명은 마스터 저장소에서 채움
+     */
+    private PostingRequirementResponse toRequirementResponse(FitnessJobPostingRequirement postingRequirement) {
+        RequirementMaster master = masterDataRegistry.getRequirement(postingRequirement.getRequirementId());
+        if (master != null) {
+            return PostingRequirementResponse.from(master);
+        }
+        return PostingRequirementResponse.builder()
+                .requirementCode(postingRequirement.getRequirementId())
+                .build();
+    }
+
+    private Sort parseBoardSort(String value) {
+        if (value == null || value.isEmpty() || value.equalsIgnoreCase("recent")) {
+            return Sort.by(Sort.Direction.DESC, "createdAt");
+        }
+        if (value.equalsIgnoreCase("popular")) {
+            return Sort.by(Sort.Direction.DESC, "viewCount").and(Sort.by(Sort.Direction.DESC, "createdAt"));
+        }
+        throw new IllegalArgumentException("유효하지 않은 정렬 기준입니다: " + value);
     }
 
     private FitnessJobPosting.EmploymentType parseEmploymentType(String value) {
@@ -5,12 +5,19 @@ import com.shoes.fitness.common.security.CurrentUser;
 import com.shoes.fitness.common.security.UserPrincipal;
 import com.shoes.fitness.domain.minihomepage.dto.*;
 import com.shoes.fitness.domain.minihomepage.service.MiniHomepageService;
+import com.shoes.fitness.domain.minihomepage.service.MiniHomepageSnapshotService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @RestController
@@ -19,6 +26,7 @@ import java.util.List;
 public class MiniHomepageController {
 
     private final MiniHomepageService miniHomepageService;
+    private final MiniHomepageSnapshotService miniHomepageSnapshotService;
 
     // ==================== 센터 기본 정보 ====================
 
@@ -48,6 +56,27 @@ public class MiniHomepageController {
         return ResponseEntity.ok(ApiResponse.success("공개 상태가 변경되었습니다.", response));
     }
 
+    // ==================== 주변 센터 검색 ====================
+
+    @GetMapping("/centers/nearby")
+    public ResponseEntity<ApiResponse<List<NearbyCenterResponse>>> getNearbyCenters(
+            @RequestParam double lat,
+            @RequestParam double lng,
+            @RequestParam(defaultValue = "3000") int radius,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(defaultValue = "false") boolean openNow) {
+        List<NearbyCenterResponse> response = miniHomepageService.getNearbyCenters(lat, lng, radius, size, openNow);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @GetMapping("/centers/open-status")
+    public ResponseEntity<ApiResponse<Map<String, Boolean>>> getOpenStatus(
+            @RequestParam List<String> centerIds,
+            @RequestParam(required = false) Instant at) {
+        Map<String, Boolean> response = miniHomepageService.getOpenStatus(centerIds, at);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     // ==================== 갤러리 ====================
 
     @GetMapping("/gallery/{centerId}")
@@ -71,8 +100,10 @@ public class MiniHomepageController {
     }
 
     @PutMapping("/gallery/order")
-    public ResponseEntity<ApiResponse<Void>> updateGalleryOrder(@RequestBody GalleryOrderRequest request) {
-        miniHomepageService.updateGalleryOrder(request);
+    public ResponseEntity<ApiResponse<Void>> updateGalleryOrder(
+            @CurrentUser UserPrincipal userPrincipal,
+            @RequestBody GalleryOrderRequest request) {
+        miniHomepageService.updateGalleryOrder(userPrincipal.getFitnessId(), request);
         return ResponseEntity.ok(ApiResponse.successWithMessage("갤러리 순서가 변경되었습니다."));
     }
 
@@ -199,10 +230,38 @@ public class MiniHomepageController {
 
     // ==================== 통합 API ====================
 
+    /**
+     * 미리 생성된 스냅샷(gzip JSON)을 그대로 응답
+     * If-None-Match 가 현재 ETag 와 같으면 304
+     */
     @GetMapping("/all")
-    public ResponseEntity<ApiResponse<MiniHomepageAllResponse>> getAllData(@RequestParam String centerId) {
-        MiniHomepageAllResponse response = miniHomepageService.getAllData(centerId);
-        return ResponseEntity.ok(ApiResponse.success(response));
+    public ResponseEntity<byte[]> getAllData(
+            @RequestParam String centerId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        MiniHomepageSnapshot snapshot = miniHomepageSnapshotService.getSnapshot(centerId);
+
+        if (ifNoneMatch != null && ifNoneMatch.contains(snapshot.getEtag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(snapshot.getEtag())
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .eTag(snapshot.getEtag())
+                .cacheControl(CacheControl.noCache())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            return builder
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .body(snapshot.getGzipBody());
+        }
+        return builder
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(snapshot.getJsonBody());
     }
 
     @PostMapping("/save")
@@ -1,5 +1,6 @@
 package com.shoes.fitness.domain.minihomepage.dto;
 
+import com.shoes.fitness.common.dto.FacilityMaster;
 import com.shoes.fitness.entity.FitnessCenterFacility;
 import lombok.*;
 
@@ -12,6 +13,8 @@ public class CenterFacilityResponse {
     private String id;
     private String centerId;
     private String facilityCode;
+    private String facilityName;
+    private String iconUrl;
     private Boolean isActive;
 
     public static CenterFacilityResponse from(FitnessCenterFacility entity) {
@@ -22,4 +25,13 @@ public class CenterFacilityResponse {
                 .isActive(entity.getIsActive())
                 .build();
     }
+
+    public static CenterFacilityResponse from(FitnessCenterFacility entity, FacilityMaster master) {
+        CenterFacilityResponse response = from(entity);
+        if (master != null) {
+            response.setFacilityName(master.facilityName());
+            response.setIconUrl(master.iconUrl());
+        }
+        return response;
+    }
 }
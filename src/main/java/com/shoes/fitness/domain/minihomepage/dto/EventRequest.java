@@ -10,6 +10,8 @@ import java.time.LocalDate;
 @AllArgsConstructor
 @Builder
 public class EventRequest {
+    // 기존 이벤트 수정 시 id (없으면 name + startDate 로 기존 이벤트와 매칭)
+    private String eventId;
     private String name;
     private String description;
     private String imageUrl;
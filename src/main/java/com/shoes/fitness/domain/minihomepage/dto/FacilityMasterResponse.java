@@ -1,6 +1,6 @@
 package com.shoes.fitness.domain.minihomepage.dto;
 
-import com.shoes.fitness.entity.FitnessFacilityMaster;
+import com.shoes.fitness.common.dto.FacilityMaster;
 import lombok.*;
 
 @Getter
@@ -15,13 +15,13 @@ public class FacilityMasterResponse {
     private Integer sortOrder;
     private Boolean isActive;
 
-    public static FacilityMasterResponse from(FitnessFacilityMaster entity) {
+    public static FacilityMasterResponse from(FacilityMaster master) {
         return FacilityMasterResponse.builder()
-                .facilityCode(entity.getFacilityCode())
-                .facilityName(entity.getFacilityName())
-                .iconUrl(entity.getIconUrl())
-                .sortOrder(entity.getSortOrder())
-                .isActive(entity.getIsActive())
+                .facilityCode(master.facilityCode())
+                .facilityName(master.facilityName())
+                .iconUrl(master.iconUrl())
+                .sortOrder(master.sortOrder())
+                .isActive(master.active())
                 .build();
     }
 }
@@ -8,6 +8,8 @@ import lombok.*;
 @AllArgsConstructor
 @Builder
 public class GalleryRequest {
+    // 기존 이미지 수정 시 id (없으면 imageUrl 로 기존 이미지와 매칭)
+    private String galleryId;
     private String imageUrl;
     private Integer sortOrder;
 }
@@ -1,5 +1,6 @@
 package com.shoes.fitness.domain.minihomepage.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.*;
 
 import java.util.List;
@@ -16,4 +17,8 @@ public class MiniHomepageAllResponse {
     private List<PriceResponse> prices;
     private List<CenterFacilityResponse> facilities;
     private List<EventResponse> events;
+
+    // 일괄 저장 응답에만 포함 (조회 스냅샷에는 포함되지 않음)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private MiniHomepageChangeSummary changes;
 }
@@ -0,0 +1,21 @@
+package com.shoes.fitness.domain.minihomepage.dto;
+
+import lombok.*;
+
+/**
+ * 미니홈페이지 일괄 저장 시 실제 변경된 행 수 (갤러리/가격/시설/이벤트)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MiniHomepageChangeSummary {
+    private int inserted;
+    private int updated;
+    private int deleted;
+
+    public int getTotal() {
+        return inserted + updated + deleted;
+    }
+}
@@ -0,0 +1,36 @@
+package com.shoes.fitness.domain.minihomepage.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * 미니홈페이지 통합 조회 응답 스냅샷 (gzip 압축된 ApiResponse JSON)
+ */
+@Getter
+@AllArgsConstructor
+public class MiniHomepageSnapshot {
+    private String centerId;
+    private long version;
+    private byte[] gzipBody;
+
+    public String getEtag() {
+        return "\"" + centerId + "-" + version + "\"";
+    }
+
+    /**
+     * gzip 을 지원하지 않는 클라이언트용 원본 JSON
+     */
+    public byte[] getJsonBody() {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipBody))) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException("미니홈페이지 스냅샷 압축 해제 실패", e);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.shoes.fitness.domain.minihomepage.dto;
+
+import com.shoes.fitness.entity.FitnessCenter;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NearbyCenterResponse {
+    private String centerId;
+    private String centerName;
+    private String category;
+    private String address;
+    private String addressDetail;
+    private BigDecimal latitude;
+    private BigDecimal longitude;
+    private String thumbnailUrl;
+    // 기준 위치로부터의 거리 (m)
+    private Long distance;
+    // 현재 영업 중 여부 (운영시간 미등록 센터는 null)
+    private Boolean isOpenNow;
+
+    public static NearbyCenterResponse from(FitnessCenter entity, long distance, Boolean isOpenNow) {
+        return NearbyCenterResponse.builder()
+                .centerId(entity.getCenterId())
+                .centerName(entity.getCenterName())
+                .category(entity.getCategory())
+                .address(entity.getAddress())
+                .addressDetail(entity.getAddressDetail())
+                .latitude(entity.getLatitude())
+                .longitude(entity.getLongitude())
+                .thumbnailUrl(entity.getThumbnailUrl())
+                .distance(distance)
+                .isOpenNow(isOpenNow)
+                .build();
+    }
+}
@@ -8,6 +8,8 @@ import lombok.*;
 @AllArgsConstructor
 @Builder
 public class PriceRequest {
+    // 기존 가격 수정 시 id (없으면 name + duration 으로 기존 가격과 매칭)
+    private String priceId;
     private String name;
     private String duration;
     private Integer price;
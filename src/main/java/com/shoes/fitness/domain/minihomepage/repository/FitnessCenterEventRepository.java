@@ -1,12 +1,15 @@
 package com.shoes.fitness.domain.minihomepage.repository;
 
 import com.shoes.fitness.entity.FitnessCenterEvent;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -16,6 +19,34 @@ public interface FitnessCenterEventRepository extends JpaRepository<FitnessCente
 
     List<FitnessCenterEvent> findByCenterIdAndIsActiveTrueOrderByStartDateDesc(String centerId);
 
+    /**
+     * 시작일이 지났지만 아직 SCHEDULED 인 진행 중 이벤트
+     * idx_event_status_start_date 의 (SCHEDULED, start_date <= today) 범위만 읽음 (이미 ACTIVE/ENDED 인 이벤트는 범위 밖)
+     */
+    @Query("SELECT e FROM FitnessCenterEvent e " +
+            "WHERE e.status = com.shoes.fitness.entity.FitnessCenterEvent.EventStatus.SCHEDULED " +
+            "AND e.startDate <= :today AND e.endDate >= :today ORDER BY e.startDate")
+    List<FitnessCenterEvent> findStarted(@Param("today") LocalDate today, Pageable pageable);
+
+    /**
+     * 종료일이 지났지만 아직 status 인 이벤트 (SCHEDULED / ACTIVE 각각 호출)
+     * idx_event_status_end_date 의 (status, end_date < today) 범위를 end_date 순서로 읽으므로 limit 에서 바로 멈춤
+     */
+    @Query("SELECT e FROM FitnessCenterEvent e WHERE e.status = :status AND e.endDate < :today ORDER BY e.endDate")
+    List<FitnessCenterEvent> findEnded(@Param("status") FitnessCenterEvent.EventStatus status,
+                                       @Param("today") LocalDate today,
+                                       Pageable pageable);
+
+    /**
+     * 상태 일괄 변경 (조회 이후 다른 요청이 바꾼 행은 건드리지 않도록 이전 상태 조건 포함)
+     */
+    @Modifying
+    @Query("UPDATE FitnessCenterEvent e SET e.status = :status, e.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE e.eventId IN :eventIds AND e.status IN :fromStatuses")
+    int updateStatus(@Param("eventIds") Collection<String> eventIds,
+                     @Param("fromStatuses") Collection<FitnessCenterEvent.EventStatus> fromStatuses,
+                     @Param("status") FitnessCenterEvent.EventStatus status);
+
     @Modifying
     @Query("DELETE FROM FitnessCenterEvent e WHERE e.centerId = :centerId")
     void deleteByCenterId(@Param("centerId") String centerId);
@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -14,6 +15,8 @@ public interface FitnessCenterGalleryRepository extends JpaRepository<FitnessCen
 
     List<FitnessCenterGallery> findByCenterIdOrderBySortOrderAsc(String centerId);
 
+    long countByCenterIdAndGalleryIdIn(String centerId, Collection<String> galleryIds);
+
     @Modifying
     @Query("DELETE FROM FitnessCenterGallery g WHERE g.centerId = :centerId")
     void deleteByCenterId(@Param("centerId") String centerId);
@@ -0,0 +1,37 @@
+package com.shoes.fitness.domain.minihomepage.repository;
+
+import com.shoes.fitness.entity.FitnessCenterPageSnapshot;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface FitnessCenterPageSnapshotRepository extends JpaRepository<FitnessCenterPageSnapshot, String> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM FitnessCenterPageSnapshot s WHERE s.centerId = :centerId")
+    Optional<FitnessCenterPageSnapshot> findForUpdate(@Param("centerId") String centerId);
+
+    @Query("SELECT s.version FROM FitnessCenterPageSnapshot s WHERE s.centerId = :centerId")
+    Optional<Long> findVersion(@Param("centerId") String centerId);
+
+    /**
+     * 센터 데이터 변경 시 버전 증가 + 스냅샷 비우기 (변경과 같은 트랜잭션에서 실행)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO fitness_center_page_snapshot (center_id, version, payload, updated_at) " +
+            "VALUES (:centerId, 1, NULL, NOW()) " +
+            "ON DUPLICATE KEY UPDATE version = version + 1, payload = NULL, updated_at = NOW()", nativeQuery = true)
+    void markStale(@Param("centerId") String centerId);
+
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO fitness_center_page_snapshot (center_id, version, payload, updated_at) " +
+            "VALUES (:centerId, 0, NULL, NOW())", nativeQuery = true)
+    void insertIfAbsent(@Param("centerId") String centerId);
+}
@@ -2,14 +2,60 @@ package com.shoes.fitness.domain.minihomepage.repository;
 
 import com.shoes.fitness.entity.FitnessCenter;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface FitnessCenterRepository extends JpaRepository<FitnessCenter, String> {
 
-    Optional<FitnessCenter> findByFitnessId(String fitnessId);
+    /**
+     * 파트너의 센터 id (CenterIdResolver 전용, 센터 엔티티가 필요하면 이 id 로 findById)
+     */
+    @Query("SELECT c.centerId FROM FitnessCenter c WHERE c.fitnessId = :fitnessId")
+    Optional<String> findCenterIdByFitnessId(@Param("fitnessId") String fitnessId);
 
     boolean existsByFitnessId(String fitnessId);
+
+    /**
+     * 반경 내 공개 센터 (거리순)
+     * MBRContains 로 사각 범위를 SPATIAL 인덱스(geo_point)에서 먼저 좁힌 뒤 구면 거리로 반경 필터/정렬
+     */
+    @Query(value = "SELECT c.* FROM fitness_center c " +
+            "WHERE MBRContains(ST_MakeEnvelope(POINT(:minLng, :minLat), POINT(:maxLng, :maxLat)), c.geo_point) " +
+            "AND c.is_public = true " +
+            "AND c.latitude IS NOT NULL AND c.longitude IS NOT NULL " +
+            "AND ST_Distance_Sphere(c.geo_point, POINT(:lng, :lat)) <= :radius " +
+            "ORDER BY ST_Distance_Sphere(c.geo_point, POINT(:lng, :lat)) " +
+            "LIMIT :limit", nativeQuery = true)
+    List<FitnessCenter> findNearbyPublic(@Param("lat") double lat,
+                                         @Param("lng") double lng,
+                                         @Param("radius") double radius,
+                                         @Param("minLat") double minLat,
+                                         @Param("minLng") double minLng,
+                                         @Param("maxLat") double maxLat,
+                                         @Param("maxLng") double maxLng,
+                                         @Param("limit") int limit);
+
+    /**
+     * 반경 내 공개 센터 (거리순) - geo_point SPATIAL 인덱스가 아직 적용되지 않았을 때 사용
+     * 위도/경도 컬럼의 사각 범위 조건 후 구면 거리로 반경 필터/정렬 (인덱스 없이 스캔)
+     */
+    @Query(value = "SELECT c.* FROM fitness_center c " +
+            "WHERE c.latitude BETWEEN :minLat AND :maxLat AND c.longitude BETWEEN :minLng AND :maxLng " +
+            "AND c.is_public = true " +
+            "AND ST_Distance_Sphere(POINT(c.longitude, c.latitude), POINT(:lng, :lat)) <= :radius " +
+            "ORDER BY ST_Distance_Sphere(POINT(c.longitude, c.latitude), POINT(:lng, :lat)) " +
+            "LIMIT :limit", nativeQuery = true)
+    List<FitnessCenter> findNearbyPublicWithoutGeoIndex(@Param("lat") double lat,
+                                                        @Param("lng") double lng,
+                                                        @Param("radius") double radius,
+                                                        @Param("minLat") double minLat,
+                                                        @Param("minLng") double minLng,
+                                                        @Param("maxLat") double maxLat,
+                                                        @Param("maxLng") double maxLng,
+                                                        @Param("limit") int limit);
 }
@@ -0,0 +1,95 @@
+package com.shoes.fitness.domain.minihomepage.service;
+
+import com.shoes.fitness.domain.minihomepage.repository.FitnessCenterRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * fitnessId → centerId 조회 캐시 (짧은 TTL)
+ * 파트너 API 가 요청마다 fitnessId 로 센터 id 를 구하므로 (센터 엔티티가 필요하면 이 id 로 findById), 같은 요청/연속 요청에서 반복 조회하지 않도록 보관
+ * 센터가 있는 결과만 보관 (센터가 없는 결과를 보관하면 다른 인스턴스에서 생성된 센터를 TTL 동안 찾지 못함)
+ * 최대 maxSize 건을 LRU 로 보관 (상한 초과 시 가장 오래 사용하지 않은 항목부터, 만료된 항목은 조회 시점에 제거)
+ */
+@Slf4j
+@Component
+public class CenterIdResolver {
+
+    private final FitnessCenterRepository centerRepository;
+    private final long ttlMillis;
+    private final int maxSize;
+
+    private final LinkedHashMap<String, Entry> entries;
+
+    public CenterIdResolver(FitnessCenterRepository centerRepository,
+                            @Value("${center-id-resolver.ttl-ms:60000}") long ttlMillis,
+                            @Value("${center-id-resolver.max-size:10000}") int maxSize) {
+        this.centerRepository = centerRepository;
+        this.ttlMillis = ttlMillis;
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > CenterIdResolver.this.maxSize
+                        || eldest.getValue().expiresAt <= System.currentTimeMillis();
+            }
+        };
+    }
+
+    /**
+     * fitnessId 의 센터 id (센터가 없으면 empty)
+     */
+    public Optional<String> findCenterId(String fitnessId) {
+        Optional<String> cached = getCached(fitnessId);
+        if (cached.isPresent()) {
+            return cached;
+        }
+
+        // DB 조회는 락 밖에서
+        Optional<String> centerId = centerRepository.findCenterIdByFitnessId(fitnessId);
+        centerId.ifPresent(id -> put(fitnessId, id));
+        return centerId;
+    }
+
+    /**
+     * fitnessId 의 센터 id (센터가 없으면 예외)
+     */
+    public String getCenterId(String fitnessId, String errorMessage) {
+        return findCenterId(fitnessId)
+                .orElseThrow(() -> new IllegalArgumentException(errorMessage));
+    }
+
+    private synchronized Optional<String> getCached(String fitnessId) {
+        Entry entry = entries.get(fitnessId);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (entry.expiresAt <= System.currentTimeMillis()) {
+            entries.remove(fitnessId);
+            return Optional.empty();
+        }
+        return Optional.of(entry.centerId);
+    }
+
+    private synchronized void put(String fitnessId, String centerId) {
+        entries.put(fitnessId, new Entry(centerId, System.currentTimeMillis() + ttlMillis));
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    private static final class Entry {
+        private final String centerId;
+        private final long expiresAt;
+
+        private Entry(String centerId, long expiresAt) {
+            this.centerId = centerId;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
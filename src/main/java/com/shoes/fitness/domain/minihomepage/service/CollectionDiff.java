@@ -0,0 +1,107 @@
+package com.shoes.fitness.domain.minihomepage.service;
+
+import lombok.Getter;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiPredicate;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 저장된 목록과 요청 목록 비교 결과
+ * 요청 항목에 id 가 있으면 id 로, 없으면 자연 키(이미지 URL, 가격명+기간 등)로 기존 행과 매칭하고
+ * 매칭된 행은 값이 바뀐 경우에만 수정, 매칭되지 않은 요청은 추가, 남은 기존 행은 삭제 대상으로 분류
+ */
+@Getter
+class CollectionDiff<E> {
+
+    // 요청 순서대로 정렬된 최종 엔티티 목록 (기존 행 + 추가 행)
+    private final List<E> result = new ArrayList<>();
+    private final List<E> inserts = new ArrayList<>();
+    private final List<E> deletes = new ArrayList<>();
+    private int updatedCount;
+
+    private CollectionDiff() {
+    }
+
+    /**
+     * @param applyChanges 기존 엔티티에 요청 값을 반영하고, 실제로 바뀐 값이 있으면 true
+     */
+    static <E, R> CollectionDiff<E> compute(List<E> stored, List<R> requested,
+                                            Function<E, String> storedId, Function<R, String> requestedId,
+                                            Function<E, Object> storedKey, Function<R, Object> requestedKey,
+                                            BiPredicate<E, R> applyChanges, Function<R, E> creator) {
+        Map<String, E> byId = new HashMap<>();
+        Map<Object, Deque<E>> byKey = new HashMap<>();
+        for (E entity : stored) {
+            byId.put(storedId.apply(entity), entity);
+            byKey.computeIfAbsent(storedKey.apply(entity), key -> new ArrayDeque<>()).add(entity);
+        }
+
+        Set<E> matched = Collections.newSetFromMap(new IdentityHashMap<>());
+        CollectionDiff<E> diff = new CollectionDiff<>();
+
+        for (R request : requested) {
+            E entity = null;
+
+            String id = requestedId.apply(request);
+            if (id != null) {
+                E candidate = byId.get(id);
+                if (candidate != null && !matched.contains(candidate)) {
+                    entity = candidate;
+                }
+            }
+            if (entity == null) {
+                Deque<E> candidates = byKey.getOrDefault(requestedKey.apply(request), new ArrayDeque<>());
+                while (!candidates.isEmpty() && entity == null) {
+                    E candidate = candidates.poll();
+                    if (!matched.contains(candidate)) {
+                        entity = candidate;
+                    }
+                }
+            }
+
+            if (entity == null) {
+                entity = creator.apply(request);
+                diff.inserts.add(entity);
+            } else {
+                matched.add(entity);
+                if (applyChanges.test(entity, request)) {
+                    diff.updatedCount++;
+                }
+            }
+            diff.result.add(entity);
+        }
+
+        for (E entity : stored) {
+            if (!matched.contains(entity)) {
+                diff.deletes.add(entity);
+            }
+        }
+        return diff;
+    }
+
+    /**
+     * 값이 다를 때만 setter 호출, 바뀌었으면 true
+     */
+    static <T> boolean apply(T current, T value, Consumer<T> setter) {
+        if (Objects.equals(current, value)) {
+            return false;
+        }
+        setter.accept(value);
+        return true;
+    }
+
+    int getChangedCount() {
+        return inserts.size() + updatedCount + deletes.size();
+    }
+}
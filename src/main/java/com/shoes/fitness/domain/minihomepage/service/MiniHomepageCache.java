@@ -0,0 +1,154 @@
+package com.shoes.fitness.domain.minihomepage.service;
+
+import com.shoes.fitness.domain.minihomepage.dto.MiniHomepageSnapshot;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 미니홈페이지 통합 조회 스냅샷 메모리 캐시
+ * centerId 별 MiniHomepageSnapshot 을 LRU 로 최대 maxSize 건 보관하고, 센터 데이터 변경 커밋 후 해당 센터만 무효화
+ *
+ * 무효화는 변경이 커밋된 인스턴스에서만 일어나므로, 보관 후 ttl 이 지난 항목은 DB 스냅샷 version 과 비교해 같을 때만 계속 사용
+ * (다른 인스턴스/스케줄러가 변경한 센터도 최대 ttl 이후에는 새 스냅샷을 내려줌)
+ */
+@Slf4j
+@Component
+public class MiniHomepageCache implements MeterBinder {
+
+    private final int maxSize;
+    private final long ttlMillis;
+    private final LinkedHashMap<String, Entry> entries;
+
+    // 무효화가 일어날 때마다 증가. 조회 시작 이후 무효화가 있었다면 조회 결과를 캐시에 넣지 않음 (무효화 직전 조회한 이전 데이터가 남는 것 방지)
+    private long invalidationVersion;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder revalidationCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private final LongAdder invalidationCount = new LongAdder();
+
+    public MiniHomepageCache(@Value("${mini-homepage.cache.max-size:1000}") int maxSize,
+                             @Value("${mini-homepage.cache.ttl-ms:5000}") long ttlMillis) {
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlMillis;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() > MiniHomepageCache.this.maxSize) {
+                    evictionCount.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * 캐시 조회, 없으면 loader 로 조회 후 저장
+     * ttl 이 지난 항목은 currentVersion 으로 DB 스냅샷 version 을 확인해 같으면 계속 사용, 다르면 loader 로 다시 조회
+     */
+    public MiniHomepageSnapshot get(String centerId,
+                                    Function<String, Long> currentVersion,
+                                    Supplier<MiniHomepageSnapshot> loader) {
+        long version;
+        Entry expired;
+        synchronized (this) {
+            Entry cached = entries.get(centerId);
+            if (cached != null && System.currentTimeMillis() - cached.verifiedAt < ttlMillis) {
+                hitCount.increment();
+                return cached.snapshot;
+            }
+            expired = cached;
+            version = invalidationVersion;
+        }
+
+        if (expired != null) {
+            revalidationCount.increment();
+            if (Objects.equals(currentVersion.apply(centerId), expired.snapshot.getVersion())) {
+                synchronized (this) {
+                    if (version == invalidationVersion && entries.get(centerId) == expired) {
+                        entries.put(centerId, new Entry(expired.snapshot, System.currentTimeMillis()));
+                    }
+                }
+                return expired.snapshot;
+            }
+        }
+
+        missCount.increment();
+        MiniHomepageSnapshot loaded = loader.get();
+
+        synchronized (this) {
+            if (version == invalidationVersion) {
+                entries.put(centerId, new Entry(loaded, System.currentTimeMillis()));
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * 센터 캐시 무효화 (변경 커밋 이후에 호출)
+     */
+    public void evict(String centerId) {
+        if (centerId == null) {
+            return;
+        }
+        synchronized (this) {
+            invalidationVersion++;
+            entries.remove(centerId);
+        }
+        invalidationCount.increment();
+        log.debug("미니홈페이지 캐시 무효화. centerId: {}", centerId);
+    }
+
+    /**
+     * Actuator 지표 등록 (관리 포트 /actuator/metrics/mini.homepage.cache.*)
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("mini.homepage.cache.hits", hitCount, LongAdder::sum)
+                .description("메모리 캐시 적중 수")
+                .register(registry);
+        FunctionCounter.builder("mini.homepage.cache.misses", missCount, LongAdder::sum)
+                .description("캐시 미스 / version 불일치로 다시 조회한 수")
+                .register(registry);
+        FunctionCounter.builder("mini.homepage.cache.revalidations", revalidationCount, LongAdder::sum)
+                .description("ttl 경과 후 DB version 확인 수")
+                .register(registry);
+        FunctionCounter.builder("mini.homepage.cache.evictions", evictionCount, LongAdder::sum)
+                .description("LRU 상한 초과로 제거된 수")
+                .register(registry);
+        FunctionCounter.builder("mini.homepage.cache.invalidations", invalidationCount, LongAdder::sum)
+                .description("변경 커밋 후 무효화 수")
+                .register(registry);
+        Gauge.builder("mini.homepage.cache.size", this, MiniHomepageCache::size)
+                .description("보관 중인 스냅샷 수")
+                .register(registry);
+    }
+
+    private synchronized int size() {
+        return entries.size();
+    }
+
+    private static final class Entry {
+        private final MiniHomepageSnapshot snapshot;
+        private final long verifiedAt;
+
+        private Entry(MiniHomepageSnapshot snapshot, long verifiedAt) {
+            this.snapshot = snapshot;
+            this.verifiedAt = verifiedAt;
+        }
+    }
+}
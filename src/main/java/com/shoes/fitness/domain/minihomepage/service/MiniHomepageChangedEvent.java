@@ -0,0 +1,13 @@
+package com.shoes.fitness.domain.minihomepage.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 미니홈페이지 데이터 변경 이벤트 (커밋 후 스냅샷 재생성용)
+ */
+@Getter
+@AllArgsConstructor
+public class MiniHomepageChangedEvent {
+    private final String centerId;
+}
@@ -0,0 +1,91 @@
+package com.shoes.fitness.domain.minihomepage.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 미니홈페이지 조회 병렬 실행기
+ * 각 조회를 전용 스레드 풀에서 독립된 읽기 전용 트랜잭션으로 실행
+ *
+ * 스레드 하나가 조회 중 DB 커넥션 하나를 잡으므로 스레드 수가 이 실행기의 동시 커넥션 상한이 됨
+ * 캐시 미스가 몰려도 쓰기/다른 조회 요청이 커넥션을 얻을 수 있도록 Hikari 풀(spring.datasource.hikari.maximum-pool-size)의 절반을 넘지 않게 제한
+ *
+ * 큐가 가득 차면 작업을 호출 스레드에서 순차 실행하되, 호출 스레드의 트랜잭션이 있으면 거기에 참여 (REQUIRED)
+ * CallerRuns + REQUIRES_NEW 는 이미 커넥션을 잡은 스레드가 커넥션을 하나 더 요구하게 되어 풀 고갈 시 서로 기다리는 상태가 될 수 있음
+ * (Executor 타입 빈으로 등록하면 @Async 기본 실행기 자동 구성이 꺼지므로 컴포넌트 내부에서만 사용)
+ */
+@Slf4j
+@Component
+public class MiniHomepageReadExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final TransactionTemplate readOnlyTransaction;
+    private final TransactionTemplate callerReadOnlyTransaction;
+
+    public MiniHomepageReadExecutor(PlatformTransactionManager transactionManager,
+                                    @Value("${mini-homepage.read-executor.pool-size:5}") int poolSize,
+                                    @Value("${mini-homepage.read-executor.queue-capacity:100}") int queueCapacity,
+                                    @Value("${spring.datasource.hikari.maximum-pool-size:10}") int connectionPoolSize) {
+        int threads = Math.max(1, Math.min(poolSize, connectionPoolSize / 2));
+        if (threads < poolSize) {
+            log.warn("미니홈페이지 조회 스레드 수를 커넥션 풀 크기에 맞춰 축소. 설정: {}, 커넥션 풀: {}, 적용: {}",
+                    poolSize, connectionPoolSize, threads);
+        }
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "mini-homepage-read-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+
+        // 실행기 스레드는 바깥 트랜잭션이 없으므로 항상 새 트랜잭션
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        // 큐 포화로 호출 스레드에서 실행할 때는 호출 스레드의 커넥션을 그대로 사용
+        this.callerReadOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.callerReadOnlyTransaction.setReadOnly(true);
+        this.callerReadOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRED);
+    }
+
+    /**
+     * 읽기 전용 트랜잭션으로 비동기 조회 (큐가 가득 차면 호출 스레드에서 바로 실행한 결과를 반환)
+     */
+    public <T> CompletableFuture<T> supply(Supplier<T> query) {
+        try {
+            return CompletableFuture.supplyAsync(() -> readOnlyTransaction.execute(status -> query.get()), executor);
+        } catch (RejectedExecutionException e) {
+            log.debug("미니홈페이지 조회 실행기 포화 - 호출 스레드에서 실행");
+            try {
+                return CompletableFuture.completedFuture(callerReadOnlyTransaction.execute(status -> query.get()));
+            } catch (RuntimeException queryFailure) {
+                return CompletableFuture.failedFuture(queryFailure);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        log.info("애플리케이션 종료 - 미니홈페이지 조회 실행기 종료");
+        executor.shutdown();
+    }
+}
@@ -1,15 +1,31 @@
 package com.shoes.fitness.domain.minihomepage.service;
 
+import com.shoes.fitness.common.service.MasterDataRegistry;
+import com.shoes.fitness.common.service.SchemaIndexStatus;
 import com.shoes.fitness.domain.minihomepage.dto.*;
 import com.shoes.fitness.domain.minihomepage.repository.*;
 import com.shoes.fitness.entity.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -18,13 +34,28 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class MiniHomepageService {
 
+    // MySQL ST_Distance_Sphere 기본 반지름과 동일 (m)
+    private static final double EARTH_RADIUS_METERS = 6_370_986d;
+    private static final double METERS_PER_DEGREE_LAT = Math.PI * EARTH_RADIUS_METERS / 180d;
+    private static final int NEARBY_MAX_RADIUS_METERS = 50_000;
+    private static final int NEARBY_MAX_SIZE = 100;
+    // 영업 중 필터 사용 시 DB 에서 미리 가져올 후보 배수 (필터 후에도 size 를 채우기 위함)
+    private static final int OPEN_NOW_CANDIDATE_FACTOR = 4;
+
     private final FitnessCenterRepository centerRepository;
+    private final CenterIdResolver centerIdResolver;
     private final FitnessCenterGalleryRepository galleryRepository;
     private final FitnessCenterOperationHoursRepository operationHoursRepository;
     private final FitnessCenterPriceRepository priceRepository;
-    private final FitnessFacilityMasterRepository facilityMasterRepository;
+    private final MasterDataRegistry masterDataRegistry;
+    private final SchemaIndexStatus schemaIndexStatus;
     private final FitnessCenterFacilityRepository centerFacilityRepository;
     private final FitnessCenterEventRepository eventRepository;
+    private final FitnessCenterPageSnapshotRepository snapshotRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JdbcTemplate jdbcTemplate;
+    private final OpenHoursRegistry openHoursRegistry;
+    private final MiniHomepageReadExecutor readExecutor;
 
     // ==================== 센터 기본 정보 ====================
 
@@ -35,14 +66,16 @@ public class MiniHomepageService {
     }
 
     public CenterInfoResponse getMyCenterInfo(String fitnessId) {
-        FitnessCenter center = centerRepository.findByFitnessId(fitnessId)
+        FitnessCenter center = centerIdResolver.findCenterId(fitnessId)
+                .flatMap(centerRepository::findById)
                 .orElse(null);
         return center != null ? CenterInfoResponse.from(center) : null;
     }
 
     @Transactional
     public CenterInfoResponse saveOrUpdateCenter(String fitnessId, CenterInfoRequest request) {
-        FitnessCenter center = centerRepository.findByFitnessId(fitnessId)
+        FitnessCenter center = centerIdResolver.findCenterId(fitnessId)
+                .flatMap(centerRepository::findById)
                 .orElse(FitnessCenter.builder().fitnessId(fitnessId).build());
 
         center.setCenterName(request.getCenterName());
@@ -62,21 +95,80 @@ public class MiniHomepageService {
         }
 
         FitnessCenter saved = centerRepository.save(center);
+        invalidatePage(saved.getCenterId());
         log.info("센터 정보 저장/수정 완료. fitnessId: {}, centerId: {}", fitnessId, saved.getCenterId());
         return CenterInfoResponse.from(saved);
     }
 
     @Transactional
     public CenterInfoResponse togglePublic(String fitnessId) {
-        FitnessCenter center = centerRepository.findByFitnessId(fitnessId)
+        String centerId = centerIdResolver.getCenterId(fitnessId, "센터를 찾을 수 없습니다.");
+        FitnessCenter center = centerRepository.findById(centerId)
                 .orElseThrow(() -> new IllegalArgumentException("센터를 찾을 수 없습니다."));
 
         center.setIsPublic(!center.getIsPublic());
         FitnessCenter saved = centerRepository.save(center);
+        invalidatePage(saved.getCenterId());
         log.info("센터 공개 상태 토글. fitnessId: {}, isPublic: {}", fitnessId, saved.getIsPublic());
         return CenterInfoResponse.from(saved);
     }
 
+    // ==================== 주변 센터 검색 ====================
+
+    /**
+     * 반경(m) 내 공개 센터를 가까운 순으로 조회 (geo_point SPATIAL 인덱스 사용, 인덱스 적용 전에는 위경도 범위 조회)
+     * openNow=true 이면 현재 영업 중인 센터만 (메모리 영업 시간표로 필터)
+     */
+    public List<NearbyCenterResponse> getNearbyCenters(double lat, double lng, int radius, int size, boolean openNow) {
+        if (lat < -90 || lat > 90 || lng < -180 || lng > 180) {
+            throw new IllegalArgumentException("위치 좌표가 올바르지 않습니다.");
+        }
+        if (radius <= 0 || radius > NEARBY_MAX_RADIUS_METERS) {
+            throw new IllegalArgumentException("검색 반경은 1 ~ " + NEARBY_MAX_RADIUS_METERS + "m 사이여야 합니다.");
+        }
+        int limit = Math.max(1, Math.min(size, NEARBY_MAX_SIZE));
+        int candidateLimit = openNow ? limit * OPEN_NOW_CANDIDATE_FACTOR : limit;
+
+        // 반경을 감싸는 위경도 사각 범위 (인덱스 범위 검색용, 날짜변경선을 넘는 범위는 잘라냄)
+        double dLat = radius / METERS_PER_DEGREE_LAT;
+        double cosLat = Math.cos(Math.toRadians(lat));
+        double dLng = cosLat > 1e-6 ? Math.min(180d, dLat / cosLat) : 180d;
+
+        double minLat = Math.max(-90d, lat - dLat);
+        double minLng = Math.max(-180d, lng - dLng);
+        double maxLat = Math.min(90d, lat + dLat);
+        double maxLng = Math.min(180d, lng + dLng);
+        List<FitnessCenter> centers = schemaIndexStatus.isCenterGeoIndexAvailable()
+                ? centerRepository.findNearbyPublic(lat, lng, radius, minLat, minLng, maxLat, maxLng, candidateLimit)
+                : centerRepository.findNearbyPublicWithoutGeoIndex(lat, lng, radius, minLat, minLng, maxLat, maxLng, candidateLimit);
+
+        Map<String, Boolean> openStatus = openHoursRegistry.getOpenStatus(
+                centers.stream().map(FitnessCenter::getCenterId).collect(Collectors.toList()), Instant.now());
+
+        return centers.stream()
+                .filter(center -> !openNow || Boolean.TRUE.equals(openStatus.get(center.getCenterId())))
+                .limit(limit)
+                .map(center -> NearbyCenterResponse.from(center, Math.round(distanceMeters(lat, lng,
+                        center.getLatitude().doubleValue(), center.getLongitude().doubleValue())),
+                        openStatus.get(center.getCenterId())))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 센터별 영업 여부 (at 미지정 시 현재 시각, 운영시간 미등록 센터는 null)
+     */
+    public Map<String, Boolean> getOpenStatus(List<String> centerIds, Instant at) {
+        return openHoursRegistry.getOpenStatus(centerIds, at != null ? at : Instant.now());
+    }
+
+    private static double distanceMeters(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1d, Math.sqrt(a)));
+    }
+
     // ==================== 갤러리 ====================
 
     public List<GalleryResponse> getGalleries(String centerId) {
@@ -88,32 +180,74 @@ public class MiniHomepageService {
 
     @Transactional
     public GalleryResponse addGalleryImage(String fitnessId, GalleryRequest request) {
-        FitnessCenter center = centerRepository.findByFitnessId(fitnessId)
-                .orElseThrow(() -> new IllegalArgumentException("센터를 찾을 수 없습니다."));
+        String centerId = centerIdResolver.getCenterId(fitnessId, "센터를 찾을 수 없습니다.");
 
         FitnessCenterGallery gallery = FitnessCenterGallery.builder()
-                .centerId(center.getCenterId())
+                .centerId(centerId)
                 .imageUrl(request.getImageUrl())
                 .sortOrder(request.getSortOrder() != null ? request.getSortOrder() : 0)
                 .build();
 
         FitnessCenterGallery saved = galleryRepository.save(gallery);
-        log.info("갤러리 이미지 추가. centerId: {}, galleryId: {}", center.getCenterId(), saved.getGalleryId());
+        invalidatePage(centerId);
+        log.info("갤러리 이미지 추가. centerId: {}, galleryId: {}", centerId, saved.getGalleryId());
         return GalleryResponse.from(saved);
     }
 
     @Transactional
     public void deleteGalleryImage(String galleryId) {
-        galleryRepository.deleteById(galleryId);
+        galleryRepository.findById(galleryId).ifPresent(gallery -> {
+            galleryRepository.delete(gallery);
+            invalidatePage(gallery.getCenterId());
+        });
         log.info("갤러리 이미지 삭제. galleryId: {}", galleryId);
     }
 
+    /**
+     * 갤러리 순서 일괄 변경
+     * 요청 id 가 모두 이 센터의 이미지인지 먼저 확인한 뒤 (다른 센터의 이미지 또는 없는 id 포함 시 예외)
+     * UPDATE ... SET sort_order = CASE gallery_id WHEN ? THEN ? ... END WHERE center_id = ? AND gallery_id IN (...) 한 번으로 반영
+     * (useAffectedRows=true 이므로 update 건수는 순서가 실제로 바뀐 행 수)
+     */
     @Transactional
-    public void updateGalleryOrder(GalleryOrderRequest request) {
-        for (GalleryOrderRequest.GalleryOrderItem item : request.getItems()) {
-            galleryRepository.updateSortOrder(item.getGalleryId(), item.getSortOrder());
+    public void updateGalleryOrder(String fitnessId, GalleryOrderRequest request) {
+        String centerId = centerIdResolver.getCenterId(fitnessId, "센터를 찾을 수 없습니다.");
+
+        List<GalleryOrderRequest.GalleryOrderItem> items = request.getItems();
+        if (items == null || items.isEmpty()) {
+            return;
+        }
+
+        Set<String> galleryIds = new HashSet<>();
+        for (GalleryOrderRequest.GalleryOrderItem item : items) {
+            if (item.getGalleryId() == null || item.getSortOrder() == null || !galleryIds.add(item.getGalleryId())) {
+                throw new IllegalArgumentException("갤러리 순서 요청이 올바르지 않습니다.");
+            }
+        }
+
+        if (galleryRepository.countByCenterIdAndGalleryIdIn(centerId, galleryIds) != galleryIds.size()) {
+            throw new IllegalArgumentException("센터에 속하지 않은 갤러리 이미지가 포함되어 있습니다.");
+        }
+
+        StringBuilder sql = new StringBuilder("UPDATE fitness_center_gallery SET sort_order = CASE gallery_id");
+        List<Object> params = new ArrayList<>(items.size() * 3 + 1);
+        for (GalleryOrderRequest.GalleryOrderItem item : items) {
+            sql.append(" WHEN ? THEN ?");
+            params.add(item.getGalleryId());
+            params.add(item.getSortOrder());
+        }
+        sql.append(" ELSE sort_order END WHERE center_id = ? AND gallery_id IN (");
+        params.add(centerId);
+        for (int i = 0; i < items.size(); i++) {
+            sql.append(i == 0 ? "?" : ", ?");
+            params.add(items.get(i).getGalleryId());
         }
-        log.info("갤러리 순서 변경 완료. 변경 건수: {}", request.getItems().size());
+        sql.append(")");
+
+        int updated = jdbcTemplate.update(sql.toString(), params.toArray());
+
+        invalidatePage(centerId);
+        log.info("갤러리 순서 변경 완료. centerId: {}, 변경 건수: {}", centerId, updated);
     }
 
     // ==================== 운영 시간 ====================
@@ -126,11 +260,10 @@ public class MiniHomepageService {
 
     @Transactional
     public OperationHoursResponse saveOrUpdateOperationHours(String fitnessId, OperationHoursRequest request) {
-        FitnessCenter center = centerRepository.findByFitnessId(fitnessId)
-                .orElseThrow(() -> new IllegalArgumentException("센터를 찾을 수 없습니다."));
+        String centerId = centerIdResolver.getCenterId(fitnessId, "센터를 찾을 수 없습니다.");
 
-        FitnessCenterOperationHours hours = operationHoursRepository.findByCenterId(center.getCenterId())
-                .orElse(FitnessCenterOperationHours.builder().centerId(center.getCenterId()).build());
+        FitnessCenterOperationHours hours = operationHoursRepository.findByCenterId(centerId)
+                .orElse(FitnessCenterOperationHours.builder().centerId(centerId).build());
 
         hours.setIsAlwaysOpen(request.getIsAlwaysOpen());
         hours.setAlwaysOpenStart(request.getAlwaysOpenStartAsTime());
@@ -149,7 +282,8 @@ public class MiniHomepageService {
         hours.setHolidayClose(request.getHolidayCloseAsTime());
 
         FitnessCenterOperationHours saved = operationHoursRepository.save(hours);
-        log.info("운영시간 저장/수정 완료. centerId: {}", center.getCenterId());
+        invalidatePage(centerId);
+        log.info("운영시간 저장/수정 완료. centerId: {}", centerId);
         return OperationHoursResponse.from(saved);
     }
 
@@ -164,11 +298,10 @@ public class MiniHomepageService {
 
     @Transactional
     public PriceResponse addPrice(String fitnessId, PriceRequest request) {
-        FitnessCenter center = centerRepository.findByFitnessId(fitnessId)
-                .orElseThrow(() -> new IllegalArgumentException("센터를 찾을 수 없습니다."));
+        String centerId = centerIdResolver.getCenterId(fitnessId, "센터를 찾을 수 없습니다.");
 
         FitnessCenterPrice price = FitnessCenterPrice.builder()
-                .centerId(center.getCenterId())
+                .centerId(centerId)
                 .name(request.getName())
                 .duration(request.getDuration())
                 .price(request.getPrice())
@@ -178,7 +311,8 @@ public class MiniHomepageService {
                 .build();
 
         FitnessCenterPrice saved = priceRepository.save(price);
-        log.info("가격 항목 추가. centerId: {}, priceId: {}", center.getCenterId(), saved.getPriceId());
+        invalidatePage(centerId);
+        log.info("가격 항목 추가. centerId: {}, priceId: {}", centerId, saved.getPriceId());
         return PriceResponse.from(saved);
     }
 
@@ -199,48 +333,39 @@ public class MiniHomepageService {
         }
 
         FitnessCenterPrice saved = priceRepository.save(price);
+        invalidatePage(saved.getCenterId());
         log.info("가격 항목 수정. priceId: {}", priceId);
         return PriceResponse.from(saved);
     }
 
     @Transactional
     public void deletePrice(String priceId) {
-        priceRepository.deleteById(priceId);
+        priceRepository.findById(priceId).ifPresent(price -> {
+            priceRepository.delete(price);
+            invalidatePage(price.getCenterId());
+        });
         log.info("가격 항목 삭제. priceId: {}", priceId);
     }
 
     @Transactional
     public List<PriceResponse> savePricesBatch(String fitnessId, PriceBatchRequest request) {
-        FitnessCenter center = centerRepository.findByFitnessId(fitnessId)
-                .orElseThrow(() -> new IllegalArgumentException("센터를 찾을 수 없습니다."));
-
-        // 기존 가격 삭제
-        priceRepository.deleteByCenterId(center.getCenterId());
+        String centerId = centerIdResolver.getCenterId(fitnessId, "센터를 찾을 수 없습니다.");
 
-        // 새로운 가격 저장
-        List<PriceResponse> results = new ArrayList<>();
-        int sortOrder = 0;
-        for (PriceRequest priceRequest : request.getPrices()) {
-            FitnessCenterPrice price = FitnessCenterPrice.builder()
-                    .centerId(center.getCenterId())
-                    .name(priceRequest.getName())
-                    .duration(priceRequest.getDuration())
-                    .price(priceRequest.getPrice())
-                    .discountPrice(priceRequest.getDiscountPrice())
-                    .sortOrder(priceRequest.getSortOrder() != null ? priceRequest.getSortOrder() : sortOrder++)
-                    .isActive(priceRequest.getIsActive() != null ? priceRequest.getIsActive() : true)
-                    .build();
-            results.add(PriceResponse.from(priceRepository.save(price)));
-        }
+        // 기존 가격과 비교해 바뀐 항목만 INSERT/UPDATE/DELETE
+        CollectionDiff<FitnessCenterPrice> diff = syncPrices(centerId, request.getPrices());
+        List<PriceResponse> results = diff.getResult().stream()
+                .map(PriceResponse::from)
+                .collect(Collectors.toList());
 
-        log.info("가격 목록 일괄 저장 완료. centerId: {}, 저장 건수: {}", center.getCenterId(), results.size());
+        invalidatePage(centerId);
+        log.info("가격 목록 일괄 저장 완료. centerId: {}, 건수: {}, 변경: {}", centerId, results.size(), diff.getChangedCount());
         return results;
     }
 
     // ==================== 시설 정보 ====================
 
     public List<FacilityMasterResponse> getFacilityMasterList() {
-        return facilityMasterRepository.findByIsActiveTrueOrderBySortOrderAsc()
+        return masterDataRegistry.getActiveFacilities()
                 .stream()
                 .map(FacilityMasterResponse::from)
                 .collect(Collectors.toList());
@@ -249,46 +374,45 @@ public class MiniHomepageService {
     public List<CenterFacilityResponse> getCenterFacilities(String centerId) {
         return centerFacilityRepository.findByCenterId(centerId)
                 .stream()
-                .map(CenterFacilityResponse::from)
+                .map(this::toFacilityResponse)
                 .collect(Collectors.toList());
     }
 
     @Transactional
     public List<CenterFacilityResponse> saveFacilities(String fitnessId, FacilityBatchRequest request) {
-        FitnessCenter center = centerRepository.findByFitnessId(fitnessId)
-                .orElseThrow(() -> new IllegalArgumentException("센터를 찾을 수 없습니다."));
+        String centerId = centerIdResolver.getCenterId(fitnessId, "센터를 찾을 수 없습니다.");
 
-        // 기존 시설 삭제
-        centerFacilityRepository.deleteByCenterId(center.getCenterId());
-
-        // 새로운 시설 저장
-        List<CenterFacilityResponse> results = new ArrayList<>();
-        for (String facilityCode : request.getFacilityCodes()) {
-            FitnessCenterFacility facility = FitnessCenterFacility.builder()
-                    .centerId(center.getCenterId())
-                    .facilityCode(facilityCode)
-                    .isActive(true)
-                    .build();
-            results.add(CenterFacilityResponse.from(centerFacilityRepository.save(facility)));
-        }
+        // 기존 시설과 비교해 바뀐 항목만 INSERT/UPDATE/DELETE
+        CollectionDiff<FitnessCenterFacility> diff = syncFacilities(centerId, request.getFacilityCodes());
+        List<CenterFacilityResponse> results = diff.getResult().stream()
+                .map(this::toFacilityResponse)
+                .collect(Collectors.toList());
 
-        log.info("시설 목록 일괄 저장 완료. centerId: {}, 저장 건수: {}", center.getCenterId(), results.size());
+        invalidatePage(centerId);
+        log.info("시설 목록 일괄 저장 완료. centerId: {}, 건수: {}, 변경: {}", centerId, results.size(), diff.getChangedCount());
         return results;
     }
 
+    /**
+     * 시설 코드의 이름/아이콘은 마스터 저장소에서 채움
+     */
+    private CenterFacilityResponse toFacilityResponse(FitnessCenterFacility facility) {
+        return CenterFacilityResponse.from(facility, masterDataRegistry.getFacility(facility.getFacilityCode()));
+    }
+
     @Transactional
     public void toggleFacility(String fitnessId, String facilityCode) {
-        FitnessCenter center = centerRepository.findByFitnessId(fitnessId)
-                .orElseThrow(() -> new IllegalArgumentException("센터를 찾을 수 없습니다."));
+        String centerId = centerIdResolver.getCenterId(fitnessId, "센터를 찾을 수 없습니다.");
 
         FitnessCenterFacility facility = centerFacilityRepository
-                .findByCenterIdAndFacilityCode(center.getCenterId(), facilityCode)
+                .findByCenterIdAndFacilityCode(centerId, facilityCode)
                 .orElseThrow(() -> new IllegalArgumentException("시설 정보를 찾을 수 없습니다."));
 
         facility.setIsActive(!facility.getIsActive());
         centerFacilityRepository.save(facility);
+        invalidatePage(centerId);
         log.info("시설 활성/비활성 토글. centerId: {}, facilityCode: {}, isActive: {}",
-                center.getCenterId(), facilityCode, facility.getIsActive());
+                centerId, facilityCode, facility.getIsActive());
     }
 
     // ==================== 이벤트 ====================
@@ -308,11 +432,10 @@ public class MiniHomepageService {
 
     @Transactional
     public EventResponse addEvent(String fitnessId, EventRequest request) {
-        FitnessCenter center = centerRepository.findByFitnessId(fitnessId)
-                .orElseThrow(() -> new IllegalArgumentException("센터를 찾을 수 없습니다."));
+        String centerId = centerIdResolver.getCenterId(fitnessId, "센터를 찾을 수 없습니다.");
 
         FitnessCenterEvent event = FitnessCenterEvent.builder()
-                .centerId(center.getCenterId())
+                .centerId(centerId)
                 .name(request.getName())
                 .description(request.getDescription())
                 .imageUrl(request.getImageUrl())
@@ -326,7 +449,8 @@ public class MiniHomepageService {
                 .build();
 
         FitnessCenterEvent saved = eventRepository.save(event);
-        log.info("이벤트 추가. centerId: {}, eventId: {}", center.getCenterId(), saved.getEventId());
+        invalidatePage(centerId);
+        log.info("이벤트 추가. centerId: {}, eventId: {}", centerId, saved.getEventId());
         return EventResponse.from(saved);
     }
 
@@ -349,31 +473,68 @@ public class MiniHomepageService {
         }
 
         FitnessCenterEvent saved = eventRepository.save(event);
+        invalidatePage(saved.getCenterId());
         log.info("이벤트 수정. eventId: {}", eventId);
         return EventResponse.from(saved);
     }
 
     @Transactional
     public void deleteEvent(String eventId) {
-        eventRepository.deleteById(eventId);
+        eventRepository.findById(eventId).ifPresent(event -> {
+            eventRepository.delete(event);
+            invalidatePage(event.getCenterId());
+        });
         log.info("이벤트 삭제. eventId: {}", eventId);
     }
 
     // ==================== 통합 API ====================
 
+    /**
+     * 미니홈페이지 통합 조회 (스냅샷 생성용)
+     * 6개 조회를 병렬로 실행하며 각각 독립된 읽기 전용 트랜잭션을 사용하므로 바깥 트랜잭션 없이 실행
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public MiniHomepageAllResponse getAllData(String centerId) {
-        CenterInfoResponse centerInfo = getCenterById(centerId);
+        CompletableFuture<CenterInfoResponse> centerInfo = readExecutor.supply(() -> getCenterById(centerId));
+        CompletableFuture<List<GalleryResponse>> galleries = readExecutor.supply(() -> getGalleries(centerId));
+        CompletableFuture<OperationHoursResponse> operationHours = readExecutor.supply(() -> getOperationHours(centerId));
+        CompletableFuture<List<PriceResponse>> prices = readExecutor.supply(() -> getPrices(centerId));
+        CompletableFuture<List<CenterFacilityResponse>> facilities = readExecutor.supply(() -> getCenterFacilities(centerId));
+        CompletableFuture<List<EventResponse>> events = readExecutor.supply(() -> getEvents(centerId));
 
         return MiniHomepageAllResponse.builder()
-                .centerInfo(centerInfo)
-                .galleries(getGalleries(centerId))
-                .operationHours(getOperationHours(centerId))
-                .prices(getPrices(centerId))
-                .facilities(getCenterFacilities(centerId))
-                .events(getEvents(centerId))
+                .centerInfo(join(centerInfo))
+                .galleries(join(galleries))
+                .operationHours(join(operationHours))
+                .prices(join(prices))
+                .facilities(join(facilities))
+                .events(join(events))
                 .build();
     }
 
+    /**
+     * 센터 데이터 변경 시 스냅샷 버전 증가 + 커밋 후 캐시 무효화/스냅샷 재생성 예약
+     */
+    private void invalidatePage(String centerId) {
+        if (centerId == null) {
+            return;
+        }
+        snapshotRepository.markStale(centerId);
+        eventPublisher.publishEvent(new MiniHomepageChangedEvent(centerId));
+    }
+
+    private <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            // 센터 없음(IllegalArgumentException) 등 원래 예외를 그대로 전달
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
     @Transactional
     public MiniHomepageAllResponse saveAll(String fitnessId, MiniHomepageSaveRequest request) {
         // 1. 센터 정보 저장 (신규 등록 또는 수정)
@@ -383,20 +544,16 @@ public class MiniHomepageService {
 
         log.info("센터 저장 완료. fitnessId: {}, centerId: {}", fitnessId, centerId);
 
+        // 컬렉션은 기존 데이터와 비교해 바뀐 행만 INSERT/UPDATE/DELETE (요청 목록이 비어 있으면 기존 유지)
+        MiniHomepageChangeSummary changes = new MiniHomepageChangeSummary();
+
         // 2. 갤러리 저장
         List<GalleryResponse> galleries = new ArrayList<>();
         if (request.getGallery() != null && !request.getGallery().isEmpty()) {
-            galleryRepository.deleteByCenterId(centerId);
-            int sortOrder = 0;
-            for (GalleryRequest galleryRequest : request.getGallery()) {
-                FitnessCenterGallery gallery = FitnessCenterGallery.builder()
-                        .centerId(centerId)
-                        .imageUrl(galleryRequest.getImageUrl())
-                        .sortOrder(galleryRequest.getSortOrder() != null ? galleryRequest.getSortOrder() : sortOrder++)
-                        .build();
-                galleries.add(GalleryResponse.from(galleryRepository.save(gallery)));
-            }
-            log.info("갤러리 저장 완료. centerId: {}, 저장 건수: {}", centerId, galleries.size());
+            CollectionDiff<FitnessCenterGallery> diff = syncGalleries(centerId, request.getGallery());
+            diff.getResult().forEach(gallery -> galleries.add(GalleryResponse.from(gallery)));
+            addChanges(changes, diff);
+            log.info("갤러리 저장 완료. centerId: {}, 건수: {}, 변경: {}", centerId, galleries.size(), diff.getChangedCount());
         }
 
         // 3. 운영시간 저장
@@ -429,62 +586,33 @@ public class MiniHomepageService {
         // 4. 가격 저장
         List<PriceResponse> prices = new ArrayList<>();
         if (request.getPrices() != null && !request.getPrices().isEmpty()) {
-            priceRepository.deleteByCenterId(centerId);
-            int sortOrder = 0;
-            for (PriceRequest priceRequest : request.getPrices()) {
-                FitnessCenterPrice price = FitnessCenterPrice.builder()
-                        .centerId(centerId)
-                        .name(priceRequest.getName())
-                        .duration(priceRequest.getDuration())
-                        .price(priceRequest.getPrice())
-                        .discountPrice(priceRequest.getDiscountPrice())
-                        .sortOrder(priceRequest.getSortOrder() != null ? priceRequest.getSortOrder() : sortOrder++)
-                        .isActive(priceRequest.getIsActive() != null ? priceRequest.getIsActive() : true)
-                        .build();
-                prices.add(PriceResponse.from(priceRepository.save(price)));
-            }
-            log.info("가격 저장 완료. centerId: {}, 저장 건수: {}", centerId, prices.size());
+            CollectionDiff<FitnessCenterPrice> diff = syncPrices(centerId, request.getPrices());
+            diff.getResult().forEach(price -> prices.add(PriceResponse.from(price)));
+            addChanges(changes, diff);
+            log.info("가격 저장 완료. centerId: {}, 건수: {}, 변경: {}", centerId, prices.size(), diff.getChangedCount());
         }
 
         // 5. 시설 저장
         List<CenterFacilityResponse> facilities = new ArrayList<>();
         if (request.getFacilities() != null && !request.getFacilities().isEmpty()) {
-            centerFacilityRepository.deleteByCenterId(centerId);
-            for (String facilityCode : request.getFacilities()) {
-                FitnessCenterFacility facility = FitnessCenterFacility.builder()
-                        .centerId(centerId)
-                        .facilityCode(facilityCode)
-                        .isActive(true)
-                        .build();
-                facilities.add(CenterFacilityResponse.from(centerFacilityRepository.save(facility)));
-            }
-            log.info("시설 저장 완료. centerId: {}, 저장 건수: {}", centerId, facilities.size());
+            CollectionDiff<FitnessCenterFacility> diff = syncFacilities(centerId, request.getFacilities());
+            diff.getResult().forEach(facility -> facilities.add(toFacilityResponse(facility)));
+            addChanges(changes, diff);
+            log.info("시설 저장 완료. centerId: {}, 건수: {}, 변경: {}", centerId, facilities.size(), diff.getChangedCount());
         }
 
         // 6. 이벤트 저장
         List<EventResponse> events = new ArrayList<>();
         if (request.getEvents() != null && !request.getEvents().isEmpty()) {
-            eventRepository.deleteByCenterId(centerId);
-            for (EventRequest eventRequest : request.getEvents()) {
-                FitnessCenterEvent event = FitnessCenterEvent.builder()
-                        .centerId(centerId)
-                        .name(eventRequest.getName())
-                        .description(eventRequest.getDescription())
-                        .imageUrl(eventRequest.getImageUrl())
-                        .discountRate(eventRequest.getDiscountRate())
-                        .startDate(eventRequest.getStartDate())
-                        .endDate(eventRequest.getEndDate())
-                        .status(eventRequest.getStatus() != null ?
-                                FitnessCenterEvent.EventStatus.valueOf(eventRequest.getStatus()) :
-                                FitnessCenterEvent.EventStatus.SCHEDULED)
-                        .isActive(eventRequest.getIsActive() != null ? eventRequest.getIsActive() : true)
-                        .build();
-                events.add(EventResponse.from(eventRepository.save(event)));
-            }
-            log.info("이벤트 저장 완료. centerId: {}, 저장 건수: {}", centerId, events.size());
+            CollectionDiff<FitnessCenterEvent> diff = syncEvents(centerId, request.getEvents());
+            diff.getResult().forEach(event -> events.add(EventResponse.from(event)));
+            addChanges(changes, diff);
+            log.info("이벤트 저장 완료. centerId: {}, 건수: {}, 변경: {}", centerId, events.size(), diff.getChangedCount());
         }
 
-        log.info("미니홈페이지 전체 저장 완료. fitnessId: {}, centerId: {}", fitnessId, centerId);
+        // 스냅샷 무효화는 1단계 saveOrUpdateCenter 에서 같은 트랜잭션으로 처리됨 (커밋 후 한 번만 재생성)
+        log.info("미니홈페이지 전체 저장 완료. fitnessId: {}, centerId: {}, 추가: {}, 수정: {}, 삭제: {}",
+                fitnessId, centerId, changes.getInserted(), changes.getUpdated(), changes.getDeleted());
 
         return MiniHomepageAllResponse.builder()
                 .centerInfo(centerInfo)
@@ -493,6 +621,145 @@ public class MiniHomepageService {
                 .prices(prices)
                 .facilities(facilities)
                 .events(events)
+                .changes(changes)
                 .build();
     }
+
+    // ==================== 컬렉션 동기화 (diff 기반) ====================
+
+    private CollectionDiff<FitnessCenterGallery> syncGalleries(String centerId, List<GalleryRequest> requests) {
+        Map<GalleryRequest, Integer> sortOrders = effectiveSortOrders(requests, GalleryRequest::getSortOrder);
+
+        CollectionDiff<FitnessCenterGallery> diff = CollectionDiff.compute(
+                galleryRepository.findByCenterIdOrderBySortOrderAsc(centerId), requests,
+                FitnessCenterGallery::getGalleryId, GalleryRequest::getGalleryId,
+                FitnessCenterGallery::getImageUrl, GalleryRequest::getImageUrl,
+                (gallery, request) -> CollectionDiff.apply(gallery.getImageUrl(), request.getImageUrl(), gallery::setImageUrl)
+                        | CollectionDiff.apply(gallery.getSortOrder(), sortOrders.get(request), gallery::setSortOrder),
+                request -> FitnessCenterGallery.builder()
+                        .centerId(centerId)
+                        .imageUrl(request.getImageUrl())
+                        .sortOrder(sortOrders.get(request))
+                        .build());
+        applyDiff(diff, galleryRepository);
+        return diff;
+    }
+
+    private CollectionDiff<FitnessCenterPrice> syncPrices(String centerId, List<PriceRequest> requests) {
+        Map<PriceRequest, Integer> sortOrders = effectiveSortOrders(requests, PriceRequest::getSortOrder);
+
+        CollectionDiff<FitnessCenterPrice> diff = CollectionDiff.compute(
+                priceRepository.findByCenterIdOrderBySortOrderAsc(centerId), requests,
+                FitnessCenterPrice::getPriceId, PriceRequest::getPriceId,
+                price -> Arrays.asList(price.getName(), price.getDuration()),
+                request -> Arrays.asList(request.getName(), request.getDuration()),
+                (price, request) -> {
+                    boolean isActive = request.getIsActive() != null ? request.getIsActive() : true;
+                    return CollectionDiff.apply(price.getName(), request.getName(), price::setName)
+                            | CollectionDiff.apply(price.getDuration(), request.getDuration(), price::setDuration)
+                            | CollectionDiff.apply(price.getPrice(), request.getPrice(), price::setPrice)
+                            | CollectionDiff.apply(price.getDiscountPrice(), request.getDiscountPrice(), price::setDiscountPrice)
+                            | CollectionDiff.apply(price.getSortOrder(), sortOrders.get(request), price::setSortOrder)
+                            | CollectionDiff.apply(price.getIsActive(), isActive, price::setIsActive);
+                },
+                request -> FitnessCenterPrice.builder()
+                        .centerId(centerId)
+                        .name(request.getName())
+                        .duration(request.getDuration())
+                        .price(request.getPrice())
+                        .discountPrice(request.getDiscountPrice())
+                        .sortOrder(sortOrders.get(request))
+                        .isActive(request.getIsActive() != null ? request.getIsActive() : true)
+                        .build());
+        applyDiff(diff, priceRepository);
+        return diff;
+    }
+
+    private CollectionDiff<FitnessCenterFacility> syncFacilities(String centerId, List<String> facilityCodes) {
+        // (center_id, facility_code) unique 이므로 중복 코드 제거
+        List<String> distinctCodes = new ArrayList<>(new LinkedHashSet<>(facilityCodes));
+
+        CollectionDiff<FitnessCenterFacility> diff = CollectionDiff.compute(
+                centerFacilityRepository.findByCenterId(centerId), distinctCodes,
+                FitnessCenterFacility::getId, code -> null,
+                FitnessCenterFacility::getFacilityCode, code -> code,
+                (facility, code) -> CollectionDiff.apply(facility.getIsActive(), true, facility::setIsActive),
+                code -> FitnessCenterFacility.builder()
+                        .centerId(centerId)
+                        .facilityCode(code)
+                        .isActive(true)
+                        .build());
+        applyDiff(diff, centerFacilityRepository);
+        return diff;
+    }
+
+    private CollectionDiff<FitnessCenterEvent> syncEvents(String centerId, List<EventRequest> requests) {
+        CollectionDiff<FitnessCenterEvent> diff = CollectionDiff.compute(
+                eventRepository.findByCenterIdOrderByStartDateDesc(centerId), requests,
+                FitnessCenterEvent::getEventId, EventRequest::getEventId,
+                event -> Arrays.asList(event.getName(), event.getStartDate()),
+                request -> Arrays.asList(request.getName(), request.getStartDate()),
+                (event, request) -> {
+                    FitnessCenterEvent.EventStatus status = request.getStatus() != null ?
+                            FitnessCenterEvent.EventStatus.valueOf(request.getStatus()) :
+                            FitnessCenterEvent.EventStatus.SCHEDULED;
+                    boolean isActive = request.getIsActive() != null ? request.getIsActive() : true;
+                    return CollectionDiff.apply(event.getName(), request.getName(), event::setName)
+                            | CollectionDiff.apply(event.getDescription(), request.getDescription(), event::setDescription)
+                            | CollectionDiff.apply(event.getImageUrl(), request.getImageUrl(), event::setImageUrl)
+                            | CollectionDiff.apply(event.getDiscountRate(), request.getDiscountRate(), event::setDiscountRate)
+                            | CollectionDiff.apply(event.getStartDate(), request.getStartDate(), event::setStartDate)
+                            | CollectionDiff.apply(event.getEndDate(), request.getEndDate(), event::setEndDate)
+                            | CollectionDiff.apply(event.getStatus(), status, event::setStatus)
+                            | CollectionDiff.apply(event.getIsActive(), isActive, event::setIsActive);
+                },
+                request -> FitnessCenterEvent.builder()
+                        .centerId(centerId)
+                        .name(request.getName())
+                        .description(request.getDescription())
+                        .imageUrl(request.getImageUrl())
+                        .discountRate(request.getDiscountRate())
+                        .startDate(request.getStartDate())
+                        .endDate(request.getEndDate())
+                        .status(request.getStatus() != null ?
+                                FitnessCenterEvent.EventStatus.valueOf(request.getStatus()) :
+                                FitnessCenterEvent.EventStatus.SCHEDULED)
+                        .isActive(request.getIsActive() != null ? request.getIsActive() : true)
+                        .build());
+        applyDiff(diff, eventRepository);
+        return diff;
+    }
+
+    /**
+     * 요청 항목별 실제 정렬 순서 (sortOrder 미지정 항목은 요청 순서대로 0 부터 부여)
+     * 요청 DTO 는 호출자의 객체이므로 값을 채워 넣지 않고 항목 identity 기준 맵으로 반환
+     */
+    private static <R> Map<R, Integer> effectiveSortOrders(List<R> requests, Function<R, Integer> requestedSortOrder) {
+        Map<R, Integer> sortOrders = new IdentityHashMap<>();
+        int sortOrder = 0;
+        for (R request : requests) {
+            Integer requested = requestedSortOrder.apply(request);
+            sortOrders.put(request, requested != null ? requested : sortOrder++);
+        }
+        return sortOrders;
+    }
+
+    /**
+     * 삭제는 DELETE 1회, 추가는 saveAll 일괄 INSERT
+     * 수정은 영속 상태 엔티티의 dirty checking 으로 커밋 시 UPDATE (바뀐 행만)
+     */
+    private <E> void applyDiff(CollectionDiff<E> diff, JpaRepository<E, String> repository) {
+        if (!diff.getDeletes().isEmpty()) {
+            repository.deleteAllInBatch(diff.getDeletes());
+        }
+        if (!diff.getInserts().isEmpty()) {
+            repository.saveAll(diff.getInserts());
+        }
+    }
+
+    private void addChanges(MiniHomepageChangeSummary summary, CollectionDiff<?> diff) {
+        summary.setInserted(summary.getInserted() + diff.getInserts().size());
+        summary.setUpdated(summary.getUpdated() + diff.getUpdatedCount());
+        summary.setDeleted(summary.getDeleted() + diff.getDeletes().size());
+    }
 }
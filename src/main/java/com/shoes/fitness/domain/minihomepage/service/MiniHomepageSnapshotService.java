@@ -0,0 +1,183 @@
+package com.shoes.fitness.domain.minihomepage.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shoes.fitness.common.dto.ApiResponse;
+import com.shoes.fitness.domain.minihomepage.dto.MiniHomepageAllResponse;
+import com.shoes.fitness.domain.minihomepage.dto.MiniHomepageSnapshot;
+import com.shoes.fitness.domain.minihomepage.repository.FitnessCenterPageSnapshotRepository;
+import com.shoes.fitness.entity.FitnessCenterPageSnapshot;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 미니홈페이지 공개 페이지 스냅샷 관리
+ * 쓰기 시점에 응답 JSON 을 미리 직렬화/압축해 두고, 조회는 저장된 바이트를 그대로 내려줌
+ *
+ * 버전 규칙
+ * - 쓰기 트랜잭션에서 markStale 로 version 증가 + payload 비움 (변경과 원자적으로 반영)
+ * - 재생성은 시작 시점의 version 을 기억했다가, 저장 직전 행 잠금 후 version 이 그대로일 때만 저장
+ *   (재생성 도중 다른 변경이 커밋되면 이전 데이터로 덮어쓰지 않고 그 변경의 재생성에 맡김)
+ *
+ * 변경 커밋 후 재생성은 쓰기 요청 스레드가 아닌 전용 스레드 1개에서 실행 (큐가 가득 차면 다음 조회 시 재생성)
+ */
+@Slf4j
+@Service
+public class MiniHomepageSnapshotService {
+
+    private final FitnessCenterPageSnapshotRepository snapshotRepository;
+    private final MiniHomepageService miniHomepageService;
+    private final MiniHomepageCache miniHomepageCache;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate newTransaction;
+    private final ThreadPoolExecutor rebuildExecutor;
+
+    // 재생성 대기 중인 센터 (같은 센터의 연속 변경은 한 번만 재생성)
+    private final Set<String> pendingRebuilds = ConcurrentHashMap.newKeySet();
+
+    public MiniHomepageSnapshotService(FitnessCenterPageSnapshotRepository snapshotRepository,
+                                       MiniHomepageService miniHomepageService,
+                                       MiniHomepageCache miniHomepageCache,
+                                       ObjectMapper objectMapper,
+                                       PlatformTransactionManager transactionManager,
+                                       @Value("${mini-homepage.snapshot.rebuild-queue-capacity:100}") int rebuildQueueCapacity) {
+        this.snapshotRepository = snapshotRepository;
+        this.miniHomepageService = miniHomepageService;
+        this.miniHomepageCache = miniHomepageCache;
+        this.objectMapper = objectMapper;
+        // 호출 위치와 관계없이 바깥 트랜잭션과 분리되도록 항상 새 트랜잭션으로 실행
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        // 큐가 가득 차면 버림 (payload 가 비어 있으므로 다음 조회 시 재생성됨)
+        this.rebuildExecutor = new ThreadPoolExecutor(1, 1, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(rebuildQueueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "mini-homepage-snapshot");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.rebuildExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * 스냅샷 조회 (메모리 캐시 → DB 스냅샷 → 재생성 순)
+     * 캐시 ttl 이 지나면 DB version 을 확인해 다른 인스턴스에서 변경된 센터는 다시 조회
+     */
+    public MiniHomepageSnapshot getSnapshot(String centerId) {
+        return miniHomepageCache.get(centerId, this::findVersion, () -> loadOrRebuild(centerId));
+    }
+
+    private Long findVersion(String centerId) {
+        return newTransaction.execute(status -> snapshotRepository.findVersion(centerId).orElse(null));
+    }
+
+    /**
+     * 센터 데이터 변경 커밋 후 캐시 무효화 + 스냅샷 재생성 예약
+     * 쓰기 요청 스레드는 아직 커밋한 트랜잭션의 커넥션을 잡고 있으므로 여기서는 무효화만 하고 재생성은 전용 스레드에 맡김
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onChanged(MiniHomepageChangedEvent event) {
+        String centerId = event.getCenterId();
+        miniHomepageCache.evict(centerId);
+
+        if (!pendingRebuilds.add(centerId)) {
+            return;
+        }
+        try {
+            rebuildExecutor.execute(() -> {
+                pendingRebuilds.remove(centerId);
+                try {
+                    rebuild(centerId);
+                } catch (Exception e) {
+                    // payload 가 비어 있으므로 다음 조회 시 다시 생성됨
+                    log.error("미니홈페이지 스냅샷 재생성 실패. centerId: {}", centerId, e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pendingRebuilds.remove(centerId);
+            log.warn("미니홈페이지 스냅샷 재생성 대기열 포화 - 다음 조회 시 재생성. centerId: {}", centerId);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        log.info("애플리케이션 종료 - 미니홈페이지 스냅샷 재생성 실행기 종료");
+        rebuildExecutor.shutdown();
+    }
+
+    private MiniHomepageSnapshot loadOrRebuild(String centerId) {
+        FitnessCenterPageSnapshot stored = newTransaction.execute(status ->
+                snapshotRepository.findById(centerId).orElse(null));
+        if (stored != null && stored.getPayload() != null) {
+            return new MiniHomepageSnapshot(centerId, stored.getVersion(), stored.getPayload());
+        }
+        return rebuild(centerId);
+    }
+
+    private MiniHomepageSnapshot rebuild(String centerId) {
+        long baseVersion = newTransaction.execute(status -> snapshotRepository.findById(centerId)
+                .map(FitnessCenterPageSnapshot::getVersion)
+                .orElse(0L));
+
+        // 잠금 없이 조회/직렬화 (캐시 미스 경로와 같은 병렬 조회 사용)
+        MiniHomepageAllResponse data = miniHomepageService.getAllData(centerId);
+        byte[] gzipBody = gzip(serialize(data));
+
+        newTransaction.executeWithoutResult(status -> {
+            snapshotRepository.insertIfAbsent(centerId);
+            FitnessCenterPageSnapshot snapshot = snapshotRepository.findForUpdate(centerId)
+                    .orElseThrow(() -> new IllegalStateException("스냅샷 행을 찾을 수 없습니다. centerId: " + centerId));
+
+            if (snapshot.getVersion() != baseVersion) {
+                log.debug("미니홈페이지 스냅샷 저장 생략 (재생성 중 변경 발생). centerId: {}, base: {}, current: {}",
+                        centerId, baseVersion, snapshot.getVersion());
+                return;
+            }
+            if (snapshot.getPayload() == null) {
+                snapshot.setPayload(gzipBody);
+                snapshotRepository.save(snapshot);
+                log.info("미니홈페이지 스냅샷 생성. centerId: {}, version: {}, bytes: {}",
+                        centerId, baseVersion, gzipBody.length);
+            }
+        });
+
+        return new MiniHomepageSnapshot(centerId, baseVersion, gzipBody);
+    }
+
+    private byte[] serialize(MiniHomepageAllResponse data) {
+        try {
+            return objectMapper.writeValueAsBytes(ApiResponse.success(data));
+        } catch (IOException e) {
+            throw new UncheckedIOException("미니홈페이지 스냅샷 직렬화 실패", e);
+        }
+    }
+
+    private byte[] gzip(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, body.length / 4));
+        try (GZIPOutputStream gzipOut = new GZIPOutputStream(out)) {
+            gzipOut.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException("미니홈페이지 스냅샷 압축 실패", e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,124 @@
+package com.shoes.fitness.domain.minihomepage.service;
+
+import com.shoes.fitness.domain.minihomepage.repository.FitnessCenterOperationHoursRepository;
+import com.shoes.fitness.entity.FitnessCenterOperationHours;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 센터별 영업 시간표(OperationSchedule) 메모리 저장소
+ * 기동 시 전체 로드, 운영시간 변경 커밋 후 해당 센터만 다시 로드, 다른 인스턴스 변경 반영을 위해 주기적으로 전체 갱신
+ */
+@Slf4j
+@Component
+public class OpenHoursRegistry {
+
+    private final FitnessCenterOperationHoursRepository operationHoursRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ZoneId zoneId;
+    private final Set<LocalDate> holidays = new HashSet<>();
+
+    private volatile Map<String, OperationSchedule> schedules = new ConcurrentHashMap<>();
+
+    public OpenHoursRegistry(FitnessCenterOperationHoursRepository operationHoursRepository,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${operation-hours.zone-id:Asia/Seoul}") String zoneId,
+                             @Value("${operation-hours.holidays:}") String[] holidays) {
+        this.operationHoursRepository = operationHoursRepository;
+        this.zoneId = ZoneId.of(zoneId);
+        for (String holiday : holidays) {
+            if (!holiday.isBlank()) {
+                this.holidays.add(LocalDate.parse(holiday.trim()));
+            }
+        }
+        // 커밋 이후(afterCommit) 에서도 호출되므로 항상 새 트랜잭션으로 실행
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        refreshAll();
+    }
+
+    @Scheduled(fixedDelayString = "${operation-hours.refresh-interval-ms:600000}",
+            initialDelayString = "${operation-hours.refresh-interval-ms:600000}")
+    public void refreshAll() {
+        try {
+            List<FitnessCenterOperationHours> all = readOnlyTransaction.execute(status -> operationHoursRepository.findAll());
+            Map<String, OperationSchedule> loaded = new ConcurrentHashMap<>();
+            for (FitnessCenterOperationHours hours : all) {
+                loaded.put(hours.getCenterId(), OperationSchedule.compile(hours));
+            }
+            schedules = loaded;
+            log.info("센터 영업 시간표 로드 완료. 센터 수: {}", loaded.size());
+        } catch (Exception e) {
+            log.error("센터 영업 시간표 로드 실패", e);
+        }
+    }
+
+    /**
+     * 센터 데이터 변경 커밋 후 해당 센터 운영시간 다시 로드
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onChanged(MiniHomepageChangedEvent event) {
+        String centerId = event.getCenterId();
+        try {
+            FitnessCenterOperationHours hours = readOnlyTransaction.execute(status ->
+                    operationHoursRepository.findByCenterId(centerId).orElse(null));
+            if (hours != null) {
+                schedules.put(centerId, OperationSchedule.compile(hours));
+            } else {
+                schedules.remove(centerId);
+            }
+        } catch (Exception e) {
+            log.error("센터 영업 시간표 갱신 실패. centerId: {}", centerId, e);
+        }
+    }
+
+    /**
+     * 해당 시각 영업 여부 (운영시간 미등록 센터는 null)
+     */
+    public Boolean isOpen(String centerId, Instant at) {
+        OperationSchedule schedule = schedules.get(centerId);
+        if (schedule == null) {
+            return null;
+        }
+        return schedule.isOpen(LocalDateTime.ofInstant(at, zoneId), holidays::contains);
+    }
+
+    /**
+     * 여러 센터의 영업 여부 (센터당 상수 시간)
+     */
+    public Map<String, Boolean> getOpenStatus(Collection<String> centerIds, Instant at) {
+        LocalDateTime localDateTime = LocalDateTime.ofInstant(at, zoneId);
+        Map<String, Boolean> result = new LinkedHashMap<>();
+        for (String centerId : centerIds) {
+            OperationSchedule schedule = schedules.get(centerId);
+            result.put(centerId, schedule != null ? schedule.isOpen(localDateTime, holidays::contains) : null);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,91 @@
+package com.shoes.fitness.domain.minihomepage.service;
+
+import com.shoes.fitness.entity.FitnessCenterOperationHours;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.function.Predicate;
+
+/**
+ * 센터 운영시간을 요일별 구간표(분 단위)로 변환한 불변 객체
+ * 인덱스 0~6 = 월~일, 7 = 공휴일. 값은 자정 기준 분(0~1439), 휴무면 CLOSED
+ * 시작 > 종료 이면 다음 날 새벽까지 이어지는 구간(예: 22:00~06:00), 시작 == 종료 이면 24시간 영업으로 판단
+ * 상시 운영(isAlwaysOpen) 센터는 alwaysOpenStart~alwaysOpenEnd 구간을 모든 요일/공휴일에 적용
+ * (둘 다 없거나 같으면 24시간, 한쪽만 입력된 경우도 구간을 만들 수 없으므로 24시간)
+ */
+public final class OperationSchedule {
+
+    private static final int CLOSED = -1;
+    private static final int HOLIDAY = 7;
+
+    private final int[] opens = new int[8];
+    private final int[] closes = new int[8];
+
+    private OperationSchedule() {
+    }
+
+    public static OperationSchedule compile(FitnessCenterOperationHours hours) {
+        OperationSchedule schedule = new OperationSchedule();
+        if (Boolean.TRUE.equals(hours.getIsAlwaysOpen())) {
+            LocalTime start = hours.getAlwaysOpenStart();
+            LocalTime end = hours.getAlwaysOpenEnd();
+            boolean allDay = start == null || end == null;
+            for (int day = 0; day <= HOLIDAY; day++) {
+                schedule.set(day, false, allDay ? LocalTime.MIDNIGHT : start, allDay ? LocalTime.MIDNIGHT : end);
+            }
+            return schedule;
+        }
+
+        for (int day = 0; day < 5; day++) {
+            schedule.set(day, hours.getWeekdayClosed(), hours.getWeekdayOpen(), hours.getWeekdayClose());
+        }
+        schedule.set(5, hours.getSaturdayClosed(), hours.getSaturdayOpen(), hours.getSaturdayClose());
+        schedule.set(6, hours.getSundayClosed(), hours.getSundayOpen(), hours.getSundayClose());
+        schedule.set(HOLIDAY, hours.getHolidayClosed(), hours.getHolidayOpen(), hours.getHolidayClose());
+        return schedule;
+    }
+
+    /**
+     * 해당 시각(센터 현지 시각) 영업 여부
+     * 오늘 구간 + 전날 구간 중 자정을 넘어 이어지는 부분만 확인하므로 센터당 상수 시간
+     */
+    public boolean isOpen(LocalDateTime localDateTime, Predicate<LocalDate> isHoliday) {
+        int minute = localDateTime.getHour() * 60 + localDateTime.getMinute();
+        LocalDate today = localDateTime.toLocalDate();
+
+        int day = dayIndex(today, isHoliday);
+        int open = opens[day];
+        int close = closes[day];
+        if (open != CLOSED) {
+            if (open < close) {
+                if (minute >= open && minute < close) {
+                    return true;
+                }
+            } else if (open == close || minute >= open) {
+                return true;
+            }
+        }
+
+        // 전날 밤에 시작해 오늘 새벽까지 이어지는 구간
+        int previousDay = dayIndex(today.minusDays(1), isHoliday);
+        int previousOpen = opens[previousDay];
+        int previousClose = closes[previousDay];
+        return previousOpen != CLOSED && previousOpen > previousClose && minute < previousClose;
+    }
+
+    private void set(int day, Boolean closed, LocalTime open, LocalTime close) {
+        // 휴무이거나 시간이 입력되지 않은 요일은 휴무로 판단
+        if (Boolean.TRUE.equals(closed) || open == null || close == null) {
+            opens[day] = CLOSED;
+            closes[day] = CLOSED;
+            return;
+        }
+        opens[day] = open.getHour() * 60 + open.getMinute();
+        closes[day] = close.getHour() * 60 + close.getMinute();
+    }
+
+    private static int dayIndex(LocalDate date, Predicate<LocalDate> isHoliday) {
+        return isHoliday.test(date) ? HOLIDAY : date.getDayOfWeek().getValue() - 1;
+    }
+}
@@ -8,6 +8,7 @@ import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
 
+// 제목/내용 FULLTEXT(ngram) 인덱스 ft_post_title_content 는 db/schema/community_post_fulltext.sql 로 관리
 @Entity
 @Table(name = "fitness_community_post", indexes = {
         @Index(name = "idx_category", columnList = "category"),
@@ -15,7 +16,8 @@ import java.time.LocalDateTime;
         @Index(name = "idx_center_id", columnList = "center_id"),
         @Index(name = "idx_created_at", columnList = "created_at"),
         @Index(name = "idx_category_created", columnList = "category, created_at"),
-        @Index(name = "idx_is_notice", columnList = "is_notice, category")
+        @Index(name = "idx_is_notice", columnList = "is_notice, category"),
+        @Index(name = "idx_notice_created_post", columnList = "is_notice, created_at, post_id")
 })
 @Getter
 @Setter
@@ -73,6 +75,10 @@ public class CommunityPost {
     @Column(name = "contact", length = 50)
     private String contact;
 
+    // 첫 번째 이미지 URL (게시글 이미지 저장 시 함께 갱신)
+    @Column(name = "thumbnail_url", length = 500)
+    private String thumbnailUrl;
+
     @Column(name = "view_count")
     @Builder.Default
     private Integer viewCount = 0;
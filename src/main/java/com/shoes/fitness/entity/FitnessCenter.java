@@ -12,7 +12,9 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "fitness_center", indexes = {
         @Index(name = "idx_center_name", columnList = "center_name"),
-        @Index(name = "idx_is_public", columnList = "is_public")
+        @Index(name = "idx_is_public", columnList = "is_public"),
+        @Index(name = "idx_fitness_id", columnList = "fitness_id"),
+        @Index(name = "idx_center_address", columnList = "address")
 })
 @Getter
 @Setter
@@ -13,7 +13,10 @@ import java.time.LocalDateTime;
 @Table(name = "fitness_center_event", indexes = {
         @Index(name = "idx_event_center_id", columnList = "center_id"),
         @Index(name = "idx_event_status", columnList = "status"),
-        @Index(name = "idx_event_date_range", columnList = "start_date, end_date")
+        @Index(name = "idx_event_date_range", columnList = "start_date, end_date"),
+        // 상태 일괄 전환 대상 조회용 (이미 전환된 지난 이벤트는 범위에서 제외)
+        @Index(name = "idx_event_status_start_date", columnList = "status, start_date"),
+        @Index(name = "idx_event_status_end_date", columnList = "status, end_date")
 })
 @Getter
 @Setter
@@ -0,0 +1,38 @@
+package com.shoes.fitness.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 미니홈페이지 공개 페이지 스냅샷
+ * GET /mini-homepage/all 응답 JSON 을 gzip 으로 압축해 저장. 센터 데이터가 바뀔 때마다 version 이 증가하고 payload 는 비워졌다가 다시 생성됨
+ */
+@Entity
+@Table(name = "fitness_center_page_snapshot")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FitnessCenterPageSnapshot {
+
+    @Id
+    @Column(name = "center_id", length = 32)
+    private String centerId;
+
+    @Column(name = "version", nullable = false)
+    @Builder.Default
+    private Long version = 0L;
+
+    // gzip 압축된 응답 JSON (null 이면 아직 생성되지 않았거나 변경 후 재생성 대기 중)
+    @Lob
+    @Column(name = "payload", columnDefinition = "MEDIUMBLOB")
+    private byte[] payload;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -13,7 +13,13 @@ import java.time.LocalDateTime;
 @Table(name = "fitness_job_posting", indexes = {
         @Index(name = "idx_posting_center_id", columnList = "center_id"),
         @Index(name = "idx_posting_status", columnList = "status"),
-        @Index(name = "idx_posting_end_date", columnList = "end_date")
+        @Index(name = "idx_posting_end_date", columnList = "end_date"),
+        // 마감 공고 일괄 만료 대상 조회용 (이미 EXPIRED 인 지난 공고는 범위에서 제외)
+        @Index(name = "idx_posting_status_end_date", columnList = "status, end_date"),
+        // 채용 게시판 (전체 센터) 정렬/필터용
+        @Index(name = "idx_posting_board_recent", columnList = "status, is_active, created_at"),
+        @Index(name = "idx_posting_board_popular", columnList = "status, is_active, view_count"),
+        @Index(name = "idx_posting_board_type", columnList = "employment_type, status, is_active, created_at")
 })
 @Getter
 @Setter
@@ -68,6 +74,10 @@ public class FitnessJobPosting {
     @Builder.Default
     private Integer applyCount = 0;
 
+    // 자격요건 비트마스크 (FitnessRequirementMaster.bitIndex 위치의 비트 OR, null 이면 기동 시 채워짐)
+    @Column(name = "requirement_mask")
+    private Long requirementMask;
+
     @Column(name = "is_active")
     @Builder.Default
     private Boolean isActive = true;
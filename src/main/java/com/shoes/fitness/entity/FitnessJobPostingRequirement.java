@@ -9,7 +9,8 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "fitness_job_posting_requirement", indexes = {
-        @Index(name = "idx_requirement_posting_id", columnList = "posting_id")
+        @Index(name = "idx_requirement_posting_id", columnList = "posting_id"),
+        @Index(name = "idx_requirement_code_posting", columnList = "requirement_code, posting_id")
 })
 @Getter
 @Setter
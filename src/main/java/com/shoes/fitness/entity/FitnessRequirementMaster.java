@@ -29,6 +29,10 @@ public class FitnessRequirementMaster {
     @Builder.Default
     private Integer sortOrder = 0;
 
+    // 채용공고 requirement_mask 에서 이 자격요건의 비트 위치 (0 ~ 62, 한 번 배정되면 바뀌지 않음)
+    @Column(name = "bit_index", unique = true)
+    private Integer bitIndex;
+
     @Column(name = "is_active")
     @Builder.Default
     private Boolean isActive = true;
@@ -0,0 +1,30 @@
+package com.shoes.fitness.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스케줄 작업 실행 임대(lease)
+ * 여러 인스턴스가 같은 @Scheduled 작업을 동시에 실행하지 않도록 작업별로 한 행을 두고, lease_until 까지 owner 인스턴스만 실행
+ */
+@Entity
+@Table(name = "scheduler_lease")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SchedulerLease {
+
+    @Id
+    @Column(name = "lease_name", length = 50)
+    private String leaseName;
+
+    @Column(name = "owner", length = 100)
+    private String owner;
+
+    @Column(name = "lease_until", nullable = false)
+    private LocalDateTime leaseUntil;
+}
@@ -0,0 +1,8 @@
+-- 주변 센터 검색용 POINT 생성 컬럼 + SPATIAL 인덱스 (JPA 로는 POINT 타입/SPATIAL 인덱스를 만들 수 없어 별도 DDL 로 관리)
+-- latitude/longitude 로부터 계산되는 STORED 생성 컬럼이라 센터 저장 시 애플리케이션에서 따로 동기화할 필요 없음
+-- (SRID 0 평면 좌표 POINT(경도, 위도), 좌표가 없는 센터는 (0, 0) 으로 저장되고 검색 쿼리에서 제외)
+-- STORED 컬럼 추가는 테이블 재생성이므로 배포 전 한 번만, 트래픽이 적은 시간에 실행
+-- 인덱스가 없는 동안 주변 센터 검색은 위도/경도 범위 조건으로 동작 (SchemaIndexStatus)
+ALTER TABLE fitness_center
+    ADD COLUMN geo_point POINT AS (POINT(IFNULL(longitude, 0), IFNULL(latitude, 0))) STORED SRID 0 NOT NULL,
+    ADD SPATIAL INDEX sp_center_geo_point (geo_point);
@@ -0,0 +1,6 @@
+-- 커뮤니티 게시글 제목/내용 FULLTEXT(ngram) 인덱스 (JPA @Index 로는 만들 수 없어 별도 DDL 로 관리)
+-- 배포 전 한 번만 적용. 인덱스 생성 중 DML 이 막히므로 (LOCK=SHARED) 트래픽이 적은 시간에 실행
+-- 인덱스가 없는 동안 키워드 검색은 LIKE 검색으로 동작 (SchemaIndexStatus)
+ALTER TABLE fitness_community_post
+    ADD FULLTEXT INDEX ft_post_title_content (title, content) WITH PARSER ngram,
+    ALGORITHM = INPLACE, LOCK = SHARED;
@@ -0,0 +1,34 @@
+package com.shoes.fitness.common.controller;
+
+import com.shoes.fitness.common.service.MasterDataRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class MasterDataEndpointTest {
+
+    private final MasterDataRegistry masterDataRegistry = mock(MasterDataRegistry.class);
+
+    @Test
+    void refreshesOncePerMinimumInterval() {
+        MasterDataEndpoint endpoint = new MasterDataEndpoint(masterDataRegistry, 60_000);
+
+        assertThat(endpoint.refresh()).containsEntry("refreshed", true);
+        assertThat(endpoint.refresh()).containsEntry("refreshed", false).containsKey("retryAfterMs");
+
+        verify(masterDataRegistry, times(1)).refresh();
+    }
+
+    @Test
+    void refreshesAgainAfterInterval() {
+        MasterDataEndpoint endpoint = new MasterDataEndpoint(masterDataRegistry, 0);
+
+        endpoint.refresh();
+        endpoint.refresh();
+
+        verify(masterDataRegistry, times(2)).refresh();
+    }
+}
@@ -0,0 +1,71 @@
+package com.shoes.fitness.common.paging;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PagingExecutorTest {
+
+    private final PagingExecutor pagingExecutor = new PagingExecutor(60_000, 600_000, 100);
+
+    @Test
+    void nextPageReusesServerSideCountForSameFilter() {
+        AtomicInteger countQueries = new AtomicInteger();
+        String filterKey = PageQuery.filterKey("posts", "FREE", null);
+
+        PageResult<String> first = execute(PageQuery.of(0, 2, "EXACT"), filterKey, countQuery(countQueries, 50));
+        PageResult<String> second = execute(PageQuery.of(1, 2, "EXACT"), filterKey, countQuery(countQueries, 99));
+
+        assertThat(first.getTotalCount()).isEqualTo(50);
+        assertThat(second.getTotalCount()).isEqualTo(50);
+        assertThat(second.isTotalCountEstimated()).isFalse();
+        assertThat(countQueries).hasValue(1);
+    }
+
+    @Test
+    void differentFiltersNeverShareCount() {
+        AtomicInteger countQueries = new AtomicInteger();
+        // 구분자/목록 구분이 다른 값이 같은 키가 되지 않음
+        assertThat(PageQuery.filterKey("posts", "a,b", "c")).isNotEqualTo(PageQuery.filterKey("posts", "a", "b,c"));
+        assertThat(PageQuery.filterKey("posts", "x")).isNotEqualTo(PageQuery.filterKey("partners", "x"));
+
+        execute(PageQuery.of(0, 2, "EXACT"), PageQuery.filterKey("posts", "a"), countQuery(countQueries, 10));
+        PageResult<String> other = execute(PageQuery.of(1, 2, "EXACT"), PageQuery.filterKey("posts", "b"),
+                countQuery(countQueries, 20));
+
+        assertThat(other.getTotalCount()).isEqualTo(20);
+        assertThat(countQueries).hasValue(2);
+    }
+
+    @Test
+    void estimatedModeLabelsReusedCount() {
+        AtomicInteger countQueries = new AtomicInteger();
+        String filterKey = PageQuery.filterKey("posts");
+
+        PageResult<String> computed = execute(PageQuery.of(0, 2, "ESTIMATED"), filterKey, countQuery(countQueries, 30));
+        PageResult<String> reused = execute(PageQuery.of(0, 2, "ESTIMATED"), filterKey, countQuery(countQueries, 31));
+
+        assertThat(computed.isTotalCountEstimated()).isFalse();
+        assertThat(reused.getTotalCount()).isEqualTo(30);
+        assertThat(reused.isTotalCountEstimated()).isTrue();
+        assertThat(countQueries).hasValue(1);
+    }
+
+    private PageResult<String> execute(PageQuery query, String filterKey, LongSupplier countQuery) {
+        // 항상 다음 페이지가 있는 목록
+        return pagingExecutor.execute(query, filterKey,
+                pageable -> new SliceImpl<>(List.of("a", "b"), pageable, true), countQuery);
+    }
+
+    private LongSupplier countQuery(AtomicInteger calls, long total) {
+        return () -> {
+            calls.incrementAndGet();
+            return total;
+        };
+    }
+}
@@ -0,0 +1,51 @@
+package com.shoes.fitness.common.service;
+
+import com.shoes.fitness.common.dto.RequirementMaster;
+import com.shoes.fitness.domain.jobposting.repository.RequirementMasterRepository;
+import com.shoes.fitness.domain.minihomepage.repository.FitnessFacilityMasterRepository;
+import com.shoes.fitness.entity.FitnessRequirementMaster;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MasterDataRegistryTest {
+
+    private final FitnessFacilityMasterRepository facilityMasterRepository = mock(FitnessFacilityMasterRepository.class);
+    private final RequirementMasterRepository requirementMasterRepository = mock(RequirementMasterRepository.class);
+    private final MasterDataRegistry registry = new MasterDataRegistry(facilityMasterRepository, requirementMasterRepository);
+
+    @Test
+    void snapshotHoldsValuesDetachedFromEntities() {
+        FitnessRequirementMaster license = requirement("LICENSE", "생활스포츠지도사", 2, 0, true);
+        when(facilityMasterRepository.findAll()).thenReturn(List.of());
+        when(requirementMasterRepository.findAll()).thenReturn(List.of(
+                license,
+                requirement("CPR", "심폐소생술", 1, null, true),
+                requirement("OLD", "폐지된 자격", 0, 1, false)));
+
+        registry.refresh();
+        // 로드 이후 엔티티가 바뀌어도 보관 값은 그대로
+        license.setRequirementName("변경됨");
+        license.setBitIndex(5);
+
+        assertThat(registry.getRequirement("LICENSE").requirementName()).isEqualTo("생활스포츠지도사");
+        assertThat(registry.toRequirementMask(List.of("LICENSE"))).isEqualTo(1L);
+        assertThat(registry.isRequirementMaskable(List.of("LICENSE", "CPR"))).isFalse();
+        assertThat(registry.getActiveRequirements()).extracting(RequirementMaster::requirementCode)
+                .containsExactly("CPR", "LICENSE");
+    }
+
+    private FitnessRequirementMaster requirement(String code, String name, int sortOrder, Integer bitIndex, boolean active) {
+        return FitnessRequirementMaster.builder()
+                .requirementCode(code)
+                .requirementName(name)
+                .sortOrder(sortOrder)
+                .bitIndex(bitIndex)
+                .isActive(active)
+                .build();
+    }
+}
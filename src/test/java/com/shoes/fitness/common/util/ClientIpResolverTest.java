@@ -0,0 +1,47 @@
+package com.shoes.fitness.common.util;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClientIpResolverTest {
+
+    private final ClientIpResolver resolver = new ClientIpResolver(List.of("10.0.0.0/8", "127.0.0.1"));
+
+    @Test
+    void ignoresForwardedHeadersFromUntrustedPeer() {
+        MockHttpServletRequest request = request("203.0.113.7");
+        request.addHeader("X-Forwarded-For", "1.2.3.4");
+        request.addHeader("X-Real-IP", "5.6.7.8");
+
+        assertThat(resolver.resolve(request)).isEqualTo("203.0.113.7");
+    }
+
+    @Test
+    void takesRightmostUntrustedHopBehindTrustedProxy() {
+        // 클라이언트가 왼쪽에 위조한 값을 넣어도 프록시가 덧붙인 실제 주소 사용
+        MockHttpServletRequest request = request("10.0.0.5");
+        request.addHeader("X-Forwarded-For", "1.2.3.4, 198.51.100.9, 10.0.0.2");
+
+        assertThat(resolver.resolve(request)).isEqualTo("198.51.100.9");
+    }
+
+    @Test
+    void fallsBackToRealIpThenRemoteAddr() {
+        MockHttpServletRequest withRealIp = request("127.0.0.1");
+        withRealIp.addHeader("X-Real-IP", "198.51.100.9");
+
+        assertThat(resolver.resolve(withRealIp)).isEqualTo("198.51.100.9");
+        assertThat(resolver.resolve(request("127.0.0.1"))).isEqualTo("127.0.0.1");
+        assertThat(resolver.resolve(null)).isNull();
+    }
+
+    private MockHttpServletRequest request(String remoteAddr) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr(remoteAddr);
+        return request;
+    }
+}
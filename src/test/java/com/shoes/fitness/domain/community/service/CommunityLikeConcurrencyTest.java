@@ -0,0 +1,167 @@
+package com.shoes.fitness.domain.community.service;
+
+import com.shoes.fitness.common.paging.PagingExecutor;
+import com.shoes.fitness.common.service.SchemaIndexStatus;
+import com.shoes.fitness.common.service.ViewCountBufferService;
+import com.shoes.fitness.common.service.ViewDedupService;
+import com.shoes.fitness.domain.community.repository.CommunityLikeRepository;
+import com.shoes.fitness.domain.community.repository.CommunityPostRepository;
+import com.shoes.fitness.entity.CommunityPost;
+import com.shoes.fitness.support.MySqlContainerTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 좋아요 동시 토글 시 likeCount 와 좋아요 행 수 일치 여부 (게시글 행 잠금 없이, 데드락은 재시도로 흡수)
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(CommunityService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CommunityLikeConcurrencyTest extends MySqlContainerTest {
+
+    private static final int USERS = 16;
+    private static final int TOGGLES_PER_USER = 5;
+
+    @Autowired
+    private CommunityService communityService;
+
+    @Autowired
+    private CommunityPostRepository postRepository;
+
+    @Autowired
+    private CommunityLikeRepository likeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private PagingExecutor pagingExecutor;
+
+    @MockitoBean
+    private ViewCountBufferService viewCountBufferService;
+
+    @MockitoBean
+    private ViewDedupService viewDedupService;
+
+    @MockitoBean
+    private SchemaIndexStatus schemaIndexStatus;
+
+    private String postId;
+
+    @BeforeEach
+    void setUp() {
+        CommunityPost post = postRepository.save(CommunityPost.builder()
+                .category(CommunityPost.PostCategory.free)
+                .title("좋아요 동시성")
+                .content("내용")
+                .authorId("author")
+                .authorName("작성자")
+                .build());
+        postId = post.getPostId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        likeRepository.deleteAllInBatch();
+        postRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void concurrentTogglesKeepLikeCountEqualToLikeRows() throws Exception {
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int user = 0; user < USERS; user++) {
+            String userId = "user" + user;
+            // 짝수 사용자는 5번(좋아요 상태로 끝남), 홀수 사용자는 4번(취소 상태로 끝남) 토글
+            int toggles = user % 2 == 0 ? TOGGLES_PER_USER : TOGGLES_PER_USER - 1;
+            for (int i = 0; i < toggles; i++) {
+                tasks.add(() -> {
+                    communityService.toggleLike(postId, userId);
+                    return null;
+                });
+            }
+        }
+
+        runConcurrently(tasks);
+
+        assertThat(likeCount()).isEqualTo(likeRows());
+        assertThat(likeRows()).isEqualTo(USERS / 2);
+    }
+
+    @Test
+    void repeatedLikeRequestsAreIdempotent() throws Exception {
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            tasks.add(() -> {
+                communityService.changeLike(postId, "double-tap", true);
+                return null;
+            });
+        }
+
+        runConcurrently(tasks);
+
+        assertThat(likeRows()).isEqualTo(1);
+        assertThat(likeCount()).isEqualTo(1);
+    }
+
+    @Test
+    void likeOnMissingPostIsRolledBack() {
+        assertThatThrownBy(() -> communityService.toggleLike("missing-post", "user"))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM fitness_community_like WHERE post_id = 'missing-post'", Integer.class)).isZero();
+    }
+
+    private void runConcurrently(List<Callable<Void>> tasks) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(USERS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Void>> futures = new ArrayList<>();
+            for (Callable<Void> task : tasks) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+            start.countDown();
+            // 데드락 등으로 실패한 요청이 있으면 여기서 예외
+            for (Future<Void> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private int likeCount() {
+        return jdbcTemplate.queryForObject(
+                "SELECT like_count FROM fitness_community_post WHERE post_id = ?", Integer.class, postId);
+    }
+
+    private int likeRows() {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM fitness_community_like WHERE post_id = ?", Integer.class, postId);
+    }
+}
@@ -0,0 +1,72 @@
+package com.shoes.fitness.domain.minihomepage.service;
+
+import com.shoes.fitness.domain.minihomepage.repository.FitnessCenterRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CenterIdResolverTest {
+
+    private final FitnessCenterRepository centerRepository = mock(FitnessCenterRepository.class);
+    private final CenterIdResolver resolver = new CenterIdResolver(centerRepository, 60_000, 100);
+
+    @Test
+    void cachesResolvedCenterId() {
+        when(centerRepository.findCenterIdByFitnessId("partner")).thenReturn(Optional.of("center-1"));
+
+        assertThat(resolver.findCenterId("partner")).contains("center-1");
+        assertThat(resolver.findCenterId("partner")).contains("center-1");
+
+        verify(centerRepository, times(1)).findCenterIdByFitnessId("partner");
+    }
+
+    @Test
+    void doesNotCacheMissingCenter() {
+        when(centerRepository.findCenterIdByFitnessId("partner"))
+                .thenReturn(Optional.empty())
+                // 다른 인스턴스에서 센터 생성
+                .thenReturn(Optional.of("center-1"));
+
+        assertThat(resolver.findCenterId("partner")).isEmpty();
+        assertThat(resolver.findCenterId("partner")).contains("center-1");
+
+        verify(centerRepository, times(2)).findCenterIdByFitnessId("partner");
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedWhenFull() {
+        CenterIdResolver small = new CenterIdResolver(centerRepository, 60_000, 2);
+        when(centerRepository.findCenterIdByFitnessId("a")).thenReturn(Optional.of("center-a"));
+        when(centerRepository.findCenterIdByFitnessId("b")).thenReturn(Optional.of("center-b"));
+        when(centerRepository.findCenterIdByFitnessId("c")).thenReturn(Optional.of("center-c"));
+
+        small.findCenterId("a");
+        small.findCenterId("b");
+        small.findCenterId("a");
+        // 상한 초과 시 전체를 비우지 않고 가장 오래 사용하지 않은 b 만 제거
+        small.findCenterId("c");
+        small.findCenterId("a");
+        small.findCenterId("b");
+
+        assertThat(small.size()).isEqualTo(2);
+        verify(centerRepository, times(1)).findCenterIdByFitnessId("a");
+        verify(centerRepository, times(2)).findCenterIdByFitnessId("b");
+    }
+
+    @Test
+    void reloadsExpiredEntry() {
+        CenterIdResolver expiring = new CenterIdResolver(centerRepository, 0, 100);
+        when(centerRepository.findCenterIdByFitnessId("partner")).thenReturn(Optional.of("center-1"));
+
+        expiring.findCenterId("partner");
+        expiring.findCenterId("partner");
+
+        verify(centerRepository, times(2)).findCenterIdByFitnessId("partner");
+    }
+}
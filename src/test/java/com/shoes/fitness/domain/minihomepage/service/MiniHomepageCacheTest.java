@@ -0,0 +1,63 @@
+package com.shoes.fitness.domain.minihomepage.service;
+
+import com.shoes.fitness.domain.minihomepage.dto.MiniHomepageSnapshot;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MiniHomepageCacheTest {
+
+    private static final String CENTER_ID = "center-1";
+
+    @Test
+    void servesCachedSnapshotWithinTtlWithoutVersionCheck() {
+        MiniHomepageCache cache = new MiniHomepageCache(10, 60_000);
+        AtomicInteger versionChecks = new AtomicInteger();
+        AtomicInteger loads = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            cache.get(CENTER_ID, id -> {
+                versionChecks.incrementAndGet();
+                return 1L;
+            }, () -> snapshot(1L, loads));
+        }
+
+        assertThat(loads).hasValue(1);
+        assertThat(versionChecks).hasValue(0);
+    }
+
+    @Test
+    void expiredEntryIsKeptWhileDbVersionIsUnchanged() {
+        MiniHomepageCache cache = new MiniHomepageCache(10, 0);
+        AtomicInteger loads = new AtomicInteger();
+
+        MiniHomepageSnapshot first = cache.get(CENTER_ID, id -> 1L, () -> snapshot(1L, loads));
+        MiniHomepageSnapshot second = cache.get(CENTER_ID, id -> 1L, () -> snapshot(1L, loads));
+
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void expiredEntryIsReloadedWhenAnotherInstanceChangedTheCenter() {
+        MiniHomepageCache cache = new MiniHomepageCache(10, 0);
+        AtomicLong dbVersion = new AtomicLong(1L);
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(CENTER_ID, id -> dbVersion.get(), () -> snapshot(dbVersion.get(), loads));
+        // 다른 인스턴스의 쓰기 트랜잭션이 markStale 로 version 증가 (이 인스턴스의 캐시는 무효화되지 않음)
+        dbVersion.incrementAndGet();
+        MiniHomepageSnapshot reloaded = cache.get(CENTER_ID, id -> dbVersion.get(), () -> snapshot(dbVersion.get(), loads));
+
+        assertThat(reloaded.getVersion()).isEqualTo(2L);
+        assertThat(loads).hasValue(2);
+    }
+
+    private MiniHomepageSnapshot snapshot(long version, AtomicInteger loads) {
+        loads.incrementAndGet();
+        return new MiniHomepageSnapshot(CENTER_ID, version, new byte[0]);
+    }
+}
@@ -0,0 +1,173 @@
+package com.shoes.fitness.domain.minihomepage.service;
+
+import com.shoes.fitness.common.service.MasterDataRegistry;
+import com.shoes.fitness.common.service.SchemaIndexStatus;
+import com.shoes.fitness.domain.minihomepage.dto.NearbyCenterResponse;
+import com.shoes.fitness.domain.minihomepage.repository.FitnessCenterRepository;
+import com.shoes.fitness.entity.FitnessCenter;
+import com.shoes.fitness.support.MySqlContainerTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주변 센터 검색: geo_point SPATIAL 인덱스 사용 여부 (EXPLAIN) 와 반경 경계/거리순 정렬
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({SchemaIndexStatus.class, MiniHomepageService.class, MiniHomepageReadExecutor.class, CenterIdResolver.class})
+@Sql(scripts = "classpath:db/schema/center_geo_point.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_CLASS)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MiniHomepageNearbyCentersTest extends MySqlContainerTest {
+
+    private static final double LAT = 37.5;
+    private static final double LNG = 127.0;
+    // MySQL ST_Distance_Sphere 기본 반지름 기준 위도 1도 거리 (m)
+    private static final double METERS_PER_DEGREE_LAT = Math.PI * 6_370_986d / 180d;
+
+    @Autowired
+    private MiniHomepageService miniHomepageService;
+
+    @Autowired
+    private FitnessCenterRepository centerRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SchemaIndexStatus schemaIndexStatus;
+
+    @MockitoBean
+    private MasterDataRegistry masterDataRegistry;
+
+    @MockitoBean
+    private OpenHoursRegistry openHoursRegistry;
+
+    @BeforeEach
+    void setUp() {
+        // 스크립트는 컨텍스트 생성 이후에 적용되므로 인덱스 상태를 다시 확인
+        schemaIndexStatus.refresh();
+        assertThat(schemaIndexStatus.isCenterGeoIndexAvailable()).isTrue();
+    }
+
+    @AfterEach
+    void tearDown() {
+        centerRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void boundingBoxUsesSpatialIndex() {
+        // 옵티마이저가 전체 스캔을 고르지 않도록 전국 범위에 센터를 흩어 둠
+        List<FitnessCenter> centers = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            for (int j = 0; j < 50; j++) {
+                centers.add(center("grid-" + i + "-" + j, 33.0 + i * 0.2, 124.5 + j * 0.1, true));
+            }
+        }
+        centerRepository.saveAll(centers);
+        jdbcTemplate.execute("ANALYZE TABLE fitness_center");
+
+        double dLat = 1000 / METERS_PER_DEGREE_LAT;
+        double dLng = dLat / Math.cos(Math.toRadians(LAT));
+        // FitnessCenterRepository.findNearbyPublic 과 같은 조건
+        List<Map<String, Object>> plan = jdbcTemplate.queryForList(
+                "EXPLAIN SELECT c.* FROM fitness_center c " +
+                        "WHERE MBRContains(ST_MakeEnvelope(POINT(?, ?), POINT(?, ?)), c.geo_point) " +
+                        "AND c.is_public = true " +
+                        "AND c.latitude IS NOT NULL AND c.longitude IS NOT NULL " +
+                        "AND ST_Distance_Sphere(c.geo_point, POINT(?, ?)) <= ? " +
+                        "ORDER BY ST_Distance_Sphere(c.geo_point, POINT(?, ?)) LIMIT 20",
+                LNG - dLng, LAT - dLat, LNG + dLng, LAT + dLat, LNG, LAT, 1000, LNG, LAT);
+
+        assertThat(plan).hasSize(1);
+        assertThat(plan.get(0).get("key")).isEqualTo("sp_center_geo_point");
+        assertThat(plan.get(0).get("type")).isEqualTo("range");
+    }
+
+    @Test
+    void returnsCentersWithinRadiusOrderedByDistance() {
+        centerRepository.saveAll(List.of(
+                center("999m", north(999), LNG, true),
+                center("100m", north(100), LNG, true),
+                center("1001m", north(1001), LNG, true),
+                center("500m", LAT, east(500), true),
+                // 사각 범위 모서리 안쪽이지만 원 밖 (약 1270m)
+                center("corner", north(900), east(900), true),
+                center("private", north(50), LNG, false),
+                center("no-location", null, null, true)));
+
+        List<NearbyCenterResponse> nearby = miniHomepageService.getNearbyCenters(LAT, LNG, 1000, 20, false);
+
+        assertThat(nearby).extracting(NearbyCenterResponse::getCenterName)
+                .containsExactly("100m", "500m", "999m");
+        assertThat(nearby).extracting(NearbyCenterResponse::getDistance)
+                .isSorted()
+                .allSatisfy(distance -> assertThat(distance).isLessThanOrEqualTo(1000L));
+    }
+
+    @Test
+    void limitsToNearestCenters() {
+        centerRepository.saveAll(List.of(
+                center("300m", north(300), LNG, true),
+                center("200m", north(200), LNG, true),
+                center("100m", north(100), LNG, true)));
+
+        List<NearbyCenterResponse> nearby = miniHomepageService.getNearbyCenters(LAT, LNG, 1000, 2, false);
+
+        assertThat(nearby).extracting(NearbyCenterResponse::getCenterName)
+                .containsExactly("100m", "200m");
+    }
+
+    @Test
+    void fallbackWithoutGeoIndexReturnsSameCenters() {
+        centerRepository.saveAll(List.of(
+                center("100m", north(100), LNG, true),
+                center("500m", LAT, east(500), true),
+                center("corner", north(900), east(900), true),
+                center("1001m", north(1001), LNG, true)));
+
+        double dLat = 1000 / METERS_PER_DEGREE_LAT;
+        double dLng = dLat / Math.cos(Math.toRadians(LAT));
+        List<FitnessCenter> indexed = centerRepository.findNearbyPublic(
+                LAT, LNG, 1000, LAT - dLat, LNG - dLng, LAT + dLat, LNG + dLng, 20);
+        List<FitnessCenter> fallback = centerRepository.findNearbyPublicWithoutGeoIndex(
+                LAT, LNG, 1000, LAT - dLat, LNG - dLng, LAT + dLat, LNG + dLng, 20);
+
+        assertThat(fallback).extracting(FitnessCenter::getCenterName)
+                .containsExactly("100m", "500m")
+                .containsExactlyElementsOf(indexed.stream().map(FitnessCenter::getCenterName).toList());
+    }
+
+    private FitnessCenter center(String name, Double lat, Double lng, boolean isPublic) {
+        return FitnessCenter.builder()
+                .centerName(name)
+                .latitude(lat != null ? BigDecimal.valueOf(lat) : null)
+                .longitude(lng != null ? BigDecimal.valueOf(lng) : null)
+                .isPublic(isPublic)
+                .build();
+    }
+
+    private double north(double meters) {
+        return LAT + meters / METERS_PER_DEGREE_LAT;
+    }
+
+    private double east(double meters) {
+        return LNG + meters / (METERS_PER_DEGREE_LAT * Math.cos(Math.toRadians(LAT)));
+    }
+}
@@ -0,0 +1,105 @@
+package com.shoes.fitness.domain.minihomepage.service;
+
+import com.shoes.fitness.common.service.MasterDataRegistry;
+import com.shoes.fitness.common.service.SchemaIndexStatus;
+import com.shoes.fitness.domain.minihomepage.dto.CenterInfoRequest;
+import com.shoes.fitness.domain.minihomepage.dto.GalleryRequest;
+import com.shoes.fitness.domain.minihomepage.dto.MiniHomepageSaveRequest;
+import com.shoes.fitness.domain.minihomepage.dto.PriceRequest;
+import com.shoes.fitness.support.MySqlContainerTest;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * 미니홈페이지 통합 조회 지연시간 벤치마크 (6개 섹션 순차 조회 vs getAllData 병렬 조회)
+ * - 측정값만 출력하며 빌드를 통과/실패시키지 않음
+ * - 실행: gradle benchmark (Docker 필요)
+ */
+@Tag("benchmark")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({MiniHomepageService.class, MiniHomepageReadExecutor.class, CenterIdResolver.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MiniHomepageReadBenchmark extends MySqlContainerTest {
+
+    private static final int WARMUP = 50;
+    private static final int ITERATIONS = 200;
+
+    @Autowired
+    private MiniHomepageService miniHomepageService;
+
+    @MockitoBean
+    private MasterDataRegistry masterDataRegistry;
+
+    @MockitoBean
+    private OpenHoursRegistry openHoursRegistry;
+
+    @MockitoBean
+    private SchemaIndexStatus schemaIndexStatus;
+
+    @Test
+    void sequentialVersusParallelGetAllData() {
+        String centerId = miniHomepageService.saveAll("read-benchmark", saveRequest()).getCenterInfo().getCenterId();
+
+        Runnable sequential = () -> {
+            miniHomepageService.getCenterById(centerId);
+            miniHomepageService.getGalleries(centerId);
+            miniHomepageService.getOperationHours(centerId);
+            miniHomepageService.getPrices(centerId);
+            miniHomepageService.getCenterFacilities(centerId);
+            miniHomepageService.getEvents(centerId);
+        };
+        Runnable parallel = () -> miniHomepageService.getAllData(centerId);
+
+        report("sequential", measure(sequential));
+        report("parallel", measure(parallel));
+    }
+
+    private long[] measure(Runnable task) {
+        for (int i = 0; i < WARMUP; i++) {
+            task.run();
+        }
+        long[] micros = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            task.run();
+            micros[i] = (System.nanoTime() - start) / 1_000;
+        }
+        Arrays.sort(micros);
+        return micros;
+    }
+
+    private void report(String label, long[] sortedMicros) {
+        System.out.printf("[benchmark] getAllData %-10s p50=%dus p95=%dus max=%dus%n", label,
+                sortedMicros[sortedMicros.length / 2],
+                sortedMicros[sortedMicros.length * 95 / 100],
+                sortedMicros[sortedMicros.length - 1]);
+    }
+
+    private MiniHomepageSaveRequest saveRequest() {
+        List<GalleryRequest> galleries = IntStream.range(0, 30)
+                .mapToObj(i -> GalleryRequest.builder().imageUrl("https://img.example.com/" + i + ".jpg").build())
+                .toList();
+        List<PriceRequest> prices = IntStream.range(0, 20)
+                .mapToObj(i -> PriceRequest.builder().name("이용권 " + i).duration(i + 1 + "개월").price(10_000 * (i + 1)).build())
+                .toList();
+
+        return MiniHomepageSaveRequest.builder()
+                .center(CenterInfoRequest.builder().centerName("조회 벤치마크 센터").build())
+                .gallery(galleries)
+                .prices(prices)
+                .facilities(List.of())
+                .build();
+    }
+}
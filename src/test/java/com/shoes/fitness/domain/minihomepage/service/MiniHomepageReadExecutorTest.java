@@ -0,0 +1,107 @@
+package com.shoes.fitness.domain.minihomepage.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 통합 조회 6건 동시 실행, 커넥션 풀 기준 스레드 수 제한, 포화 시 호출 스레드 실행 확인
+ * (지연시간 측정은 MiniHomepageReadBenchmark)
+ */
+class MiniHomepageReadExecutorTest {
+
+    private static final int QUERIES = 6;
+
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private MiniHomepageReadExecutor readExecutor;
+
+    @AfterEach
+    void tearDown() {
+        if (readExecutor != null) {
+            readExecutor.shutdown();
+        }
+    }
+
+    @Test
+    void sixQueriesRunAtTheSameTime() {
+        readExecutor = new MiniHomepageReadExecutor(transactionManager, QUERIES, 100, 20);
+        CountDownLatch allStarted = new CountDownLatch(QUERIES);
+
+        // 각 조회는 여섯 조회가 모두 시작될 때까지 대기 (스레드가 부족하면 시간 초과로 false)
+        List<CompletableFuture<Boolean>> futures = new ArrayList<>();
+        for (int i = 0; i < QUERIES; i++) {
+            futures.add(readExecutor.supply(() -> {
+                allStarted.countDown();
+                try {
+                    return allStarted.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }));
+        }
+
+        assertThat(futures).allSatisfy(future -> assertThat(future.join()).isTrue());
+    }
+
+    @Test
+    void threadCountIsCappedByHalfOfConnectionPool() {
+        readExecutor = new MiniHomepageReadExecutor(transactionManager, QUERIES, 100, 4);
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> threads = new ArrayList<>();
+
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+        for (int i = 0; i < QUERIES; i++) {
+            futures.add(readExecutor.supply(() -> {
+                await(release);
+                return Thread.currentThread().getName();
+            }));
+        }
+        release.countDown();
+        futures.forEach(future -> threads.add(future.join()));
+
+        assertThat(threads.stream().distinct().count()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void saturatedQueriesRunOnCallerJoiningItsTransaction() {
+        readExecutor = new MiniHomepageReadExecutor(transactionManager, 1, 1, 20);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // 스레드 1개 + 큐 1개를 채운 뒤의 조회는 호출 스레드에서 실행
+        CompletableFuture<String> running = readExecutor.supply(() -> {
+            await(release);
+            return Thread.currentThread().getName();
+        });
+        CompletableFuture<String> queued = readExecutor.supply(() -> Thread.currentThread().getName());
+        CompletableFuture<String> overflow = readExecutor.supply(() -> Thread.currentThread().getName());
+        release.countDown();
+
+        assertThat(overflow.join()).isEqualTo(Thread.currentThread().getName());
+        assertThat(running.join()).startsWith("mini-homepage-read-");
+        assertThat(queued.join()).startsWith("mini-homepage-read-");
+        verify(transactionManager, atLeastOnce()).getTransaction(argThat(definition ->
+                definition != null && definition.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRED));
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
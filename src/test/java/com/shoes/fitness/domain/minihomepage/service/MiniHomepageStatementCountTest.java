@@ -0,0 +1,153 @@
+package com.shoes.fitness.domain.minihomepage.service;
+
+import com.shoes.fitness.common.service.MasterDataRegistry;
+import com.shoes.fitness.common.service.SchemaIndexStatus;
+import com.shoes.fitness.domain.minihomepage.dto.CenterInfoRequest;
+import com.shoes.fitness.domain.minihomepage.dto.GalleryRequest;
+import com.shoes.fitness.domain.minihomepage.dto.GalleryResponse;
+import com.shoes.fitness.domain.minihomepage.dto.MiniHomepageAllResponse;
+import com.shoes.fitness.domain.minihomepage.dto.MiniHomepageSaveRequest;
+import com.shoes.fitness.domain.minihomepage.dto.PriceRequest;
+import com.shoes.fitness.domain.minihomepage.repository.FitnessCenterFacilityRepository;
+import com.shoes.fitness.domain.minihomepage.repository.FitnessCenterGalleryRepository;
+import com.shoes.fitness.domain.minihomepage.repository.FitnessCenterPageSnapshotRepository;
+import com.shoes.fitness.domain.minihomepage.repository.FitnessCenterPriceRepository;
+import com.shoes.fitness.domain.minihomepage.repository.FitnessCenterRepository;
+import com.shoes.fitness.support.MySqlContainerTest;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 미니홈페이지 전체 저장/통합 조회 SQL 실행 수 회귀 테스트 (Hibernate Statistics)
+ * - 전체 저장: 갤러리 30 / 가격 20 / 시설 15 건 INSERT 가 행 단위가 아닌 엔티티별 배치로 실행
+ * - 통합 조회: 자식 행 수와 관계없이 섹션별 1회씩 6회
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({MiniHomepageService.class, MiniHomepageReadExecutor.class, CenterIdResolver.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MiniHomepageStatementCountTest extends MySqlContainerTest {
+
+    private static final String FITNESS_ID = "statement-count";
+    private static final int GALLERIES = 30;
+    private static final int PRICES = 20;
+    private static final int FACILITIES = 15;
+
+    @Autowired
+    private MiniHomepageService miniHomepageService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private FitnessCenterRepository centerRepository;
+
+    @Autowired
+    private FitnessCenterGalleryRepository galleryRepository;
+
+    @Autowired
+    private FitnessCenterPriceRepository priceRepository;
+
+    @Autowired
+    private FitnessCenterFacilityRepository centerFacilityRepository;
+
+    @Autowired
+    private FitnessCenterPageSnapshotRepository snapshotRepository;
+
+    @MockitoBean
+    private MasterDataRegistry masterDataRegistry;
+
+    @MockitoBean
+    private OpenHoursRegistry openHoursRegistry;
+
+    @MockitoBean
+    private SchemaIndexStatus schemaIndexStatus;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        galleryRepository.deleteAllInBatch();
+        priceRepository.deleteAllInBatch();
+        centerFacilityRepository.deleteAllInBatch();
+        snapshotRepository.deleteAllInBatch();
+        centerRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void saveAllBatchesCollectionInserts() {
+        miniHomepageService.saveAll(FITNESS_ID, saveRequest());
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1 + GALLERIES + PRICES + FACILITIES);
+        // 센터 조회/저장/스냅샷 무효화 + 컬렉션별 기존 행 조회 1회 + 엔티티별 INSERT 배치 1회
+        // (행 단위 INSERT 였다면 65회 이상)
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(12);
+    }
+
+    @Test
+    void saveAllAssignsSortOrderWithoutChangingRequest() {
+        MiniHomepageSaveRequest request = saveRequest();
+
+        MiniHomepageAllResponse response = miniHomepageService.saveAll(FITNESS_ID, request);
+
+        // 미지정 정렬 순서는 저장 값에만 부여하고 호출자의 요청 객체는 그대로 둠
+        assertThat(response.getGalleries()).extracting(GalleryResponse::getSortOrder)
+                .containsExactlyInAnyOrderElementsOf(IntStream.range(0, GALLERIES).boxed().toList());
+        assertThat(request.getGallery()).extracting(GalleryRequest::getSortOrder).containsOnlyNulls();
+        assertThat(request.getPrices()).extracting(PriceRequest::getSortOrder).containsOnlyNulls();
+    }
+
+    @Test
+    void getAllDataRunsOneQueryPerSection() {
+        String centerId = miniHomepageService.saveAll(FITNESS_ID, saveRequest()).getCenterInfo().getCenterId();
+        statistics.clear();
+
+        MiniHomepageAllResponse response = miniHomepageService.getAllData(centerId);
+
+        assertThat(response.getGalleries()).hasSize(GALLERIES);
+        assertThat(response.getPrices()).hasSize(PRICES);
+        assertThat(response.getFacilities()).hasSize(FACILITIES);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(6);
+    }
+
+    private MiniHomepageSaveRequest saveRequest() {
+        List<GalleryRequest> galleries = IntStream.range(0, GALLERIES)
+                .mapToObj(i -> GalleryRequest.builder().imageUrl("https://img.example.com/" + i + ".jpg").build())
+                .toList();
+        List<PriceRequest> prices = IntStream.range(0, PRICES)
+                .mapToObj(i -> PriceRequest.builder().name("이용권 " + i).duration(i + 1 + "개월").price(10_000 * (i + 1)).build())
+                .toList();
+        List<String> facilities = IntStream.range(0, FACILITIES)
+                .mapToObj(i -> "FAC" + i)
+                .toList();
+
+        return MiniHomepageSaveRequest.builder()
+                .center(CenterInfoRequest.builder().centerName("배치 저장 센터").build())
+                .gallery(galleries)
+                .prices(prices)
+                .facilities(facilities)
+                .build();
+    }
+}
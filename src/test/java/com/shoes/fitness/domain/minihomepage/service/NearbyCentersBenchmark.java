@@ -0,0 +1,133 @@
+package com.shoes.fitness.domain.minihomepage.service;
+
+import com.shoes.fitness.domain.minihomepage.repository.FitnessCenterRepository;
+import com.shoes.fitness.support.MySqlContainerTest;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * 주변 센터 검색 벤치마크: 센터 10만 건에서 geo_point SPATIAL 인덱스 쿼리 vs 위도/경도 범위 fallback 쿼리
+ * - 반경별 지연시간 (p50/p95) 과 EXPLAIN 예상 행 수를 출력하며 빌드를 통과/실패시키지 않음
+ * - 실행: gradle benchmark (Docker 필요)
+ */
+@Tag("benchmark")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Sql(scripts = "classpath:db/schema/center_geo_point.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_CLASS)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class NearbyCentersBenchmark extends MySqlContainerTest {
+
+    private static final int CENTERS = 100_000;
+    private static final int BATCH_SIZE = 1_000;
+    private static final int WARMUP = 20;
+    private static final int ITERATIONS = 100;
+    private static final int LIMIT = 20;
+    // 서울 시청 부근
+    private static final double LAT = 37.5665;
+    private static final double LNG = 126.9780;
+    private static final double METERS_PER_DEGREE_LAT = Math.PI * 6_370_986d / 180d;
+
+    @Autowired
+    private FitnessCenterRepository centerRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    void seed() {
+        // 절반은 수도권에 몰리고 나머지는 전국에 흩어진 분포 (고정 시드)
+        Random random = new Random(42);
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < CENTERS; i++) {
+            boolean metro = i % 2 == 0;
+            double lat = metro ? 37.2 + random.nextDouble() * 0.7 : 33.1 + random.nextDouble() * 5.4;
+            double lng = metro ? 126.6 + random.nextDouble() * 0.8 : 124.6 + random.nextDouble() * 5.3;
+            rows.add(new Object[]{UUID.randomUUID().toString().replace("-", ""), "센터 " + i, lat, lng, i % 10 != 0});
+            if (rows.size() == BATCH_SIZE) {
+                insert(rows);
+                rows.clear();
+            }
+        }
+        insert(rows);
+        jdbcTemplate.execute("ANALYZE TABLE fitness_center");
+    }
+
+    @AfterAll
+    void cleanUp() {
+        centerRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void spatialIndexVersusFallback() {
+        for (int radius : new int[]{1_000, 3_000, 10_000}) {
+            double dLat = radius / METERS_PER_DEGREE_LAT;
+            double dLng = dLat / Math.cos(Math.toRadians(LAT));
+            double minLat = LAT - dLat, maxLat = LAT + dLat, minLng = LNG - dLng, maxLng = LNG + dLng;
+
+            report(radius, "spatial", measure(() -> centerRepository.findNearbyPublic(
+                    LAT, LNG, radius, minLat, minLng, maxLat, maxLng, LIMIT)),
+                    explain("MBRContains(ST_MakeEnvelope(POINT(?, ?), POINT(?, ?)), c.geo_point)",
+                            minLng, minLat, maxLng, maxLat));
+            report(radius, "fallback", measure(() -> centerRepository.findNearbyPublicWithoutGeoIndex(
+                    LAT, LNG, radius, minLat, minLng, maxLat, maxLng, LIMIT)),
+                    explain("c.latitude BETWEEN ? AND ? AND c.longitude BETWEEN ? AND ?",
+                            minLat, maxLat, minLng, maxLng));
+        }
+    }
+
+    private void insert(List<Object[]> rows) {
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(
+                    "INSERT INTO fitness_center (center_id, center_name, latitude, longitude, is_public) VALUES (?, ?, ?, ?, ?)",
+                    rows);
+        }
+    }
+
+    private long[] measure(Supplier<?> query) {
+        for (int i = 0; i < WARMUP; i++) {
+            query.get();
+        }
+        long[] micros = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            query.get();
+            micros[i] = (System.nanoTime() - start) / 1_000;
+        }
+        Arrays.sort(micros);
+        return micros;
+    }
+
+    private String explain(String boxCondition, Object... box) {
+        List<Map<String, Object>> plan = jdbcTemplate.queryForList(
+                "EXPLAIN SELECT c.center_id FROM fitness_center c WHERE " + boxCondition + " AND c.is_public = true", box);
+        Map<String, Object> row = plan.get(0);
+        return "type=" + row.get("type") + " key=" + row.get("key") + " rows=" + row.get("rows");
+    }
+
+    private void report(int radius, String label, long[] sortedMicros, String plan) {
+        System.out.printf("[benchmark] nearby %,d centers radius=%dm %-8s p50=%dus p95=%dus (%s)%n",
+                CENTERS, radius, label,
+                sortedMicros[sortedMicros.length / 2],
+                sortedMicros[sortedMicros.length * 95 / 100],
+                plan);
+    }
+}
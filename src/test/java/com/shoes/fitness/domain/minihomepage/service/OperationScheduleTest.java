@@ -0,0 +1,91 @@
+package com.shoes.fitness.domain.minihomepage.service;
+
+import com.shoes.fitness.entity.FitnessCenterOperationHours;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OperationScheduleTest {
+
+    // 2026-10-12 = 월요일, 2026-10-18 = 일요일
+    private static final LocalDate MONDAY = LocalDate.of(2026, 10, 12);
+    private static final LocalDate SUNDAY = LocalDate.of(2026, 10, 18);
+    private static final Predicate<LocalDate> NO_HOLIDAYS = date -> false;
+
+    @Test
+    void alwaysOpenWithoutWindowIsOpenAllDay() {
+        OperationSchedule schedule = OperationSchedule.compile(alwaysOpen(null, null));
+
+        assertThat(schedule.isOpen(MONDAY.atTime(3, 0), NO_HOLIDAYS)).isTrue();
+        assertThat(schedule.isOpen(SUNDAY.atTime(23, 59), NO_HOLIDAYS)).isTrue();
+    }
+
+    @Test
+    void alwaysOpenWithEqualStartAndEndIsOpenAllDay() {
+        OperationSchedule schedule = OperationSchedule.compile(alwaysOpen(LocalTime.of(6, 0), LocalTime.of(6, 0)));
+
+        assertThat(schedule.isOpen(MONDAY.atTime(3, 0), NO_HOLIDAYS)).isTrue();
+        assertThat(schedule.isOpen(MONDAY.atTime(6, 0), NO_HOLIDAYS)).isTrue();
+    }
+
+    @Test
+    void alwaysOpenWindowAppliesToEveryDay() {
+        OperationSchedule schedule = OperationSchedule.compile(alwaysOpen(LocalTime.of(6, 0), LocalTime.of(23, 0)));
+
+        for (int offset = 0; offset < 7; offset++) {
+            LocalDate date = MONDAY.plusDays(offset);
+            assertThat(schedule.isOpen(date.atTime(3, 0), NO_HOLIDAYS)).isFalse();
+            assertThat(schedule.isOpen(date.atTime(6, 0), NO_HOLIDAYS)).isTrue();
+            assertThat(schedule.isOpen(date.atTime(22, 59), NO_HOLIDAYS)).isTrue();
+            assertThat(schedule.isOpen(date.atTime(23, 0), NO_HOLIDAYS)).isFalse();
+        }
+        // 평일 운영시간 대신 상시 구간이 공휴일에도 적용
+        assertThat(schedule.isOpen(MONDAY.atTime(3, 0), date -> true)).isFalse();
+        assertThat(schedule.isOpen(MONDAY.atTime(12, 0), date -> true)).isTrue();
+    }
+
+    @Test
+    void alwaysOpenOvernightWindowWrapsPastMidnight() {
+        OperationSchedule schedule = OperationSchedule.compile(alwaysOpen(LocalTime.of(22, 0), LocalTime.of(6, 0)));
+
+        assertThat(schedule.isOpen(MONDAY.atTime(23, 0), NO_HOLIDAYS)).isTrue();
+        assertThat(schedule.isOpen(MONDAY.plusDays(1).atTime(5, 59), NO_HOLIDAYS)).isTrue();
+        assertThat(schedule.isOpen(MONDAY.plusDays(1).atTime(6, 0), NO_HOLIDAYS)).isFalse();
+        assertThat(schedule.isOpen(MONDAY.atTime(12, 0), NO_HOLIDAYS)).isFalse();
+        // 일요일 밤 구간이 월요일 새벽으로 이어짐
+        assertThat(schedule.isOpen(SUNDAY.plusDays(1).atTime(2, 0), NO_HOLIDAYS)).isTrue();
+    }
+
+    @Test
+    void weeklyHoursAreUsedWhenNotAlwaysOpen() {
+        FitnessCenterOperationHours hours = FitnessCenterOperationHours.builder()
+                .isAlwaysOpen(false)
+                .weekdayClosed(false)
+                .weekdayOpen(LocalTime.of(9, 0))
+                .weekdayClose(LocalTime.of(18, 0))
+                .sundayClosed(true)
+                .build();
+        OperationSchedule schedule = OperationSchedule.compile(hours);
+
+        assertThat(schedule.isOpen(LocalDateTime.of(MONDAY, LocalTime.of(10, 0)), NO_HOLIDAYS)).isTrue();
+        assertThat(schedule.isOpen(LocalDateTime.of(MONDAY, LocalTime.of(18, 0)), NO_HOLIDAYS)).isFalse();
+        assertThat(schedule.isOpen(LocalDateTime.of(SUNDAY, LocalTime.of(10, 0)), NO_HOLIDAYS)).isFalse();
+    }
+
+    private FitnessCenterOperationHours alwaysOpen(LocalTime start, LocalTime end) {
+        return FitnessCenterOperationHours.builder()
+                .isAlwaysOpen(true)
+                .alwaysOpenStart(start)
+                .alwaysOpenEnd(end)
+                // 상시 운영이면 요일별 시간은 무시됨
+                .weekdayClosed(false)
+                .weekdayOpen(LocalTime.of(9, 0))
+                .weekdayClose(LocalTime.of(10, 0))
+                .build();
+    }
+}
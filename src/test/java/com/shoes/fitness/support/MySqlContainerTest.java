@@ -0,0 +1,35 @@
+package com.shoes.fitness.support;
+
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * MySQL 컨테이너 기반 테스트 공통 설정
+ * INSERT IGNORE / 행 잠금 / SPATIAL 인덱스 등 MySQL 동작에 의존하는 테스트용 (Docker 가 없으면 건너뜀)
+ * 컨테이너는 테스트 클래스 간 공유하며 JVM 종료 시 정리됨
+ */
+@Testcontainers(disabledWithoutDocker = true)
+public abstract class MySqlContainerTest {
+
+    private static MySQLContainer<?> mysql;
+
+    @DynamicPropertySource
+    static void mysqlProperties(DynamicPropertyRegistry registry) {
+        MySQLContainer<?> container = container();
+        registry.add("spring.datasource.url", container::getJdbcUrl);
+        registry.add("spring.datasource.username", container::getUsername);
+        registry.add("spring.datasource.password", container::getPassword);
+        registry.add("spring.datasource.driver-class-name", container::getDriverClassName);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create");
+    }
+
+    private static synchronized MySQLContainer<?> container() {
+        if (mysql == null) {
+            mysql = new MySQLContainer<>("mysql:8.0.36");
+            mysql.start();
+        }
+        return mysql;
+    }
+}